@@ -3,6 +3,7 @@ package fr.irun.openapi.swagger;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Functions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
 import fr.irun.openapi.swagger.resolver.DateTimeModelResolver;
@@ -25,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,7 +53,7 @@ public class RocketModelConverter implements ModelConverter {
      * @param objectMapper Mapper from Jackson configuration.
      */
     public RocketModelConverter(ObjectMapper objectMapper) {
-        registerJacksonConverters(objectMapper);
+        registerJacksonConverters(objectMapper, ModelConverters.getInstance());
 
         this.resolversByStrategy = ImmutableMap.copyOf(
                 Stream.of(
@@ -83,9 +85,35 @@ public class RocketModelConverter implements ModelConverter {
         return resolver;
     }
 
-    private static void registerJacksonConverters(ObjectMapper objectMapper) {
+    /**
+     * Register a Jackson converter for the object mapper, unless one already exists. The converter previously
+     * registered by this class for another mapper is replaced, so the chain length stays constant whatever the
+     * number of instances.
+     */
+    @VisibleForTesting
+    static void registerJacksonConverters(ObjectMapper objectMapper, ModelConverters modelConverters) {
         // Required to use the expected object mapper for the conversion
-        ModelConverters.getInstance().addConverter(new ModelResolver(objectMapper));
+        synchronized (modelConverters) {
+            List<ModelConverter> converters = ImmutableList.copyOf(modelConverters.getConverters());
+            boolean registered = converters.stream()
+                    .anyMatch(c -> c instanceof ModelResolver && ((ModelResolver) c).objectMapper() == objectMapper);
+            if (registered) {
+                return;
+            }
+            converters.stream()
+                    .filter(JacksonModelResolver.class::isInstance)
+                    .forEach(modelConverters::removeConverter);
+            modelConverters.addConverter(new JacksonModelResolver(objectMapper));
+        }
+    }
+
+    /**
+     * The Jackson converter registered by this class.
+     */
+    private static final class JacksonModelResolver extends ModelResolver {
+        private JacksonModelResolver(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
     }
 
     @Override
@@ -2,25 +2,78 @@ package fr.irun.openapi.swagger;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import fr.irun.openapi.swagger.index.RestControllerIndex;
+import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ResourceUtils;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+/**
+ * <p>Find the {@link RestController} classes of the resource packages.</p>
+ * <p>The candidates are filtered on their bytecode metadata, the classes are loaded without being initialized and
+ * the {@link Hidden} ones are never loaded.</p>
+ */
 public final class SpringOpenApiScanner implements OpenApiScanner {
     private static final Logger LOGGER = LoggerFactory.getLogger(SpringOpenApiScanner.class);
 
+    /**
+     * How the {@link RestController} classes are discovered.
+     */
+    public enum ScanMode {
+        /**
+         * Walk the resource packages of the classpath.
+         */
+        CLASSPATH,
+        /**
+         * Read the {@link RestControllerIndex} written at compile time. Fall back to {@link #CLASSPATH} when the index
+         * is missing or stale, or when a resource package is found in a classpath root without index, or in a
+         * directory holding a controller absent from its index.
+         */
+        INDEX
+    }
+
+    private final ScanMode scanMode;
     private OpenAPIConfiguration openApiConfiguration;
 
+    public SpringOpenApiScanner() {
+        this(ScanMode.CLASSPATH);
+    }
+
+    public SpringOpenApiScanner(ScanMode scanMode) {
+        this.scanMode = Objects.requireNonNull(scanMode, "Scan mode is mandatory !");
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         this.openApiConfiguration = openApiConfiguration;
@@ -31,21 +84,152 @@ public final class SpringOpenApiScanner implements OpenApiScanner {
         LOGGER.debug("Scan classes for Spring application...");
         Objects.requireNonNull(openApiConfiguration, "OpenAPI configuration is mandatory !");
 
+        Set<String> resourcePackages = Optional.ofNullable(openApiConfiguration.getResourcePackages()).orElse(ImmutableSet.of(""));
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        if (scanMode == ScanMode.INDEX) {
+            Optional<Set<Class<?>>> indexed = RestControllerIndex.load(classLoader)
+                    .filter(index -> isComplete(index, resourcePackages, classLoader))
+                    .flatMap(index -> loadIndexedClasses(index.getClassNames(resourcePackages), classLoader));
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+            LOGGER.debug("Controller index missing or stale, fallback to classpath scanning");
+        }
+
         ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
         scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
-        return Optional.ofNullable(openApiConfiguration.getResourcePackages()).orElse(ImmutableSet.of("")).stream()
+        ImmutableSet.Builder<Class<?>> classes = ImmutableSet.builder();
+        resourcePackages.stream()
                 .flatMap(p -> scanner.findCandidateComponents(p).stream())
-                .map(b -> {
+                .filter(b -> !isHidden(b))
+                .forEach(b -> {
                     try {
                         LOGGER.debug("find class: {}", b.getBeanClassName());
-                        return Class.forName(b.getBeanClassName());
-                    } catch (ClassNotFoundException e) {
+                        classes.add(ClassUtils.forName(b.getBeanClassName(), classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
                         LOGGER.error("Unable to get class '{}', {}: {}", b.getBeanClassName(), e.getClass(), e.getLocalizedMessage());
                         LOGGER.debug("STACKTRACE", e);
-                        return null;
                     }
-                }).filter(((Predicate<Class<?>>) Objects::isNull).negate())
-                .collect(ImmutableSet.toImmutableSet());
+                });
+        return classes.build();
+    }
+
+    private static boolean isHidden(BeanDefinition beanDefinition) {
+        return beanDefinition instanceof AnnotatedBeanDefinition
+                && ((AnnotatedBeanDefinition) beanDefinition).getMetadata().hasAnnotation(Hidden.class.getName());
+    }
+
+    /**
+     * <p>Check that the index lists all the controllers of the resource packages.</p>
+     * <p>Every classpath root holding a resource package must hold an index. The jars are trusted to be consistent
+     * with their index, but the directories may have been compiled again without the annotation processor. Only their
+     * file names are listed: a class file unknown to the processor, neither indexed nor in the checked types, is read
+     * to find a controller missing from the index. The classpath roots of the empty package can only be listed for
+     * the directories.</p>
+     *
+     * @param index            The index of the classpath
+     * @param resourcePackages The scanned packages
+     * @param classLoader      The class loader of the scanned classes
+     * @return True if the index is complete for the resource packages
+     */
+    static boolean isComplete(RestControllerIndex index, Collection<String> resourcePackages, ClassLoader classLoader) {
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+        Map<String, Set<String>> knownClassNames = new HashMap<>();
+        try {
+            for (String resourcePackage : resourcePackages) {
+                String packagePath = ClassUtils.convertClassNameToResourcePath(resourcePackage);
+                Enumeration<URL> packageUrls = classLoader.getResources(packagePath);
+                while (packageUrls.hasMoreElements()) {
+                    URL packageUrl = packageUrls.nextElement();
+                    String root = RestControllerIndex.rootOf(packageUrl, packagePath);
+                    if (!index.isIndexed(root)) {
+                        LOGGER.warn("No controller index in {}, fallback to classpath scanning", root);
+                        return false;
+                    }
+                    if (ResourceUtils.URL_PROTOCOL_FILE.equals(packageUrl.getProtocol())) {
+                        Set<String> known = knownClassNames.computeIfAbsent(root, r -> index.readCheckedTypeNames(r)
+                                .<Set<String>>map(checked -> Sets.union(index.getRootClassNames(r), checked))
+                                .orElseGet(() -> index.getRootClassNames(r)));
+                        Optional<String> unindexed = findUnindexedController(
+                                Paths.get(packageUrl.toURI()), resourcePackage, known, metadataReaderFactory);
+                        if (unindexed.isPresent()) {
+                            LOGGER.warn("Controller '{}' absent from the index of {}, fallback to classpath scanning",
+                                    unindexed.get(), root);
+                            return false;
+                        }
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException | URISyntaxException e) {
+            LOGGER.warn("Unable to check the controller index, fallback to classpath scanning: {}", e.toString());
+            return false;
+        }
+        return true;
+    }
+
+    private static Optional<String> findUnindexedController(Path packageDirectory, String resourcePackage,
+                                                            Set<String> knownClassNames,
+                                                            MetadataReaderFactory metadataReaderFactory) throws IOException {
+        String prefix = resourcePackage.isEmpty() ? "" : resourcePackage + '.';
+        try (Stream<Path> files = Files.walk(packageDirectory)) {
+            Iterator<Path> classFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(ClassUtils.CLASS_FILE_SUFFIX))
+                    .iterator();
+            while (classFiles.hasNext()) {
+                Path classFile = classFiles.next();
+                String relativePath = packageDirectory.relativize(classFile).toString();
+                String className = prefix + relativePath
+                        .substring(0, relativePath.length() - ClassUtils.CLASS_FILE_SUFFIX.length())
+                        .replace(classFile.getFileSystem().getSeparator(), ".");
+                if (!knownClassNames.contains(className) && !isLocalOrAnonymous(className) && metadataReaderFactory
+                        .getMetadataReader(new FileSystemResource(classFile)).getAnnotationMetadata()
+                        .isAnnotated(RestController.class.getName())) {
+                    return Optional.of(className);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Local and anonymous classes can not be beans, the classpath scanning ignores them too.
+     */
+    private static boolean isLocalOrAnonymous(String className) {
+        int nested = className.lastIndexOf('$');
+        return nested >= 0 && nested + 1 < className.length() && Character.isDigit(className.charAt(nested + 1));
+    }
+
+    private static Optional<Set<Class<?>>> loadIndexedClasses(Set<String> classNames, ClassLoader classLoader) {
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+        ImmutableSet.Builder<String> visibleClassNames = ImmutableSet.builder();
+        for (String className : classNames) {
+            try {
+                AnnotationMetadata metadata = metadataReaderFactory.getMetadataReader(className).getAnnotationMetadata();
+                if (!metadata.isAnnotated(RestController.class.getName())) {
+                    LOGGER.debug("indexed class '{}' is no longer a controller", className);
+                    return Optional.empty();
+                }
+                if (!metadata.hasAnnotation(Hidden.class.getName())) {
+                    visibleClassNames.add(className);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("indexed class '{}' not found: {}", className, e.getLocalizedMessage());
+                return Optional.empty();
+            }
+        }
+
+        ImmutableSet.Builder<Class<?>> classes = ImmutableSet.builder();
+        for (String className : visibleClassNames.build()) {
+            try {
+                LOGGER.debug("find indexed class: {}", className);
+                classes.add(ClassUtils.forName(className, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("indexed class '{}' not loadable: {}", className, e.getLocalizedMessage());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(classes.build());
     }
 
     @Override
@@ -8,4 +8,8 @@ public class RocketSwaggerException extends RuntimeException {
         super(message);
     }
 
+    public RocketSwaggerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
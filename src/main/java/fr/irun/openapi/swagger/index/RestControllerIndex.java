@@ -0,0 +1,162 @@
+package fr.irun.openapi.swagger.index;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Optional;
+
+/**
+ * Build-time index of the {@link org.springframework.web.bind.annotation.RestController} classes, as written by
+ * {@link RestControllerIndexProcessor}. Every index file found on the classpath is merged, the entries are kept by
+ * classpath root to tell which roots are indexed.
+ */
+@Slf4j
+public final class RestControllerIndex {
+    public static final String INDEX_LOCATION = "META-INF/rocket-swagger/rest-controllers.idx";
+    public static final String CHECKED_TYPES_LOCATION = "META-INF/rocket-swagger/checked-types.idx";
+
+    private static final char COMMENT_PREFIX = '#';
+
+    private final ImmutableSet<String> roots;
+    private final ImmutableSetMultimap<String, String> classNamesByRoot;
+    private final ImmutableSet<String> classNames;
+
+    private RestControllerIndex(ImmutableSet<String> roots, ImmutableSetMultimap<String, String> classNamesByRoot) {
+        this.roots = roots;
+        this.classNamesByRoot = classNamesByRoot;
+        this.classNames = ImmutableSet.copyOf(classNamesByRoot.values());
+    }
+
+    /**
+     * Load the index files available from the given {@link ClassLoader}.
+     *
+     * @param classLoader The class loader used to find the index resources
+     * @return The merged index or empty if no index file exists
+     */
+    public static Optional<RestControllerIndex> load(ClassLoader classLoader) {
+        ImmutableSet.Builder<String> roots = ImmutableSet.builder();
+        ImmutableSetMultimap.Builder<String, String> classNamesByRoot = ImmutableSetMultimap.builder();
+        boolean found = false;
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                log.debug("read controller index {}", resource);
+                found = true;
+                String root = rootOf(resource, INDEX_LOCATION);
+                roots.add(root);
+                ImmutableSet.Builder<String> classNames = ImmutableSet.builder();
+                try (InputStream is = resource.openStream()) {
+                    readIndex(is, classNames);
+                }
+                classNamesByRoot.putAll(root, classNames.build());
+            }
+        } catch (IOException e) {
+            throw new RocketSwaggerException("Unable to read controller index " + INDEX_LOCATION, e);
+        }
+        return found
+                ? Optional.of(new RestControllerIndex(roots.build(), classNamesByRoot.build()))
+                : Optional.empty();
+    }
+
+    /**
+     * Get the classpath root of a resource, such as {@code file:/app/classes/} or {@code jar:file:/app/lib.jar!/}.
+     *
+     * @param resource The URL of the resource
+     * @param path     The path of the resource in its root, empty for the root itself
+     * @return The URL of the root, ending with a slash
+     */
+    public static String rootOf(URL resource, String path) {
+        String url = resource.toString();
+        if (!path.isEmpty() && url.endsWith("/") && !path.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        if (!url.endsWith(path)) {
+            throw new RocketSwaggerException("Resource " + url + " is not at " + path);
+        }
+        return url.substring(0, url.length() - path.length());
+    }
+
+    static void readIndex(InputStream is, ImmutableSet.Builder<String> classNames) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String className = line.trim();
+            if (!className.isEmpty() && className.charAt(0) != COMMENT_PREFIX) {
+                classNames.add(className);
+            }
+        }
+    }
+
+    public ImmutableSet<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * @param root The URL of a classpath root, as returned by {@link #rootOf(URL, String)}
+     * @return True if the root holds an index file
+     */
+    public boolean isIndexed(String root) {
+        return roots.contains(root);
+    }
+
+    /**
+     * Read the types seen by the annotation processor when it wrote the index of a root. The list is read on each
+     * call, it is only needed to check the directories of the classpath.
+     *
+     * @param root The URL of a classpath root, as returned by {@link #rootOf(URL, String)}
+     * @return The binary names of the checked types, empty if the root does not list them
+     */
+    public Optional<ImmutableSet<String>> readCheckedTypeNames(String root) {
+        if (!roots.contains(root)) {
+            return Optional.empty();
+        }
+        ImmutableSet.Builder<String> typeNames = ImmutableSet.builder();
+        try (InputStream is = new URL(root + CHECKED_TYPES_LOCATION).openStream()) {
+            readIndex(is, typeNames);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new RocketSwaggerException("Unable to read checked types " + root + CHECKED_TYPES_LOCATION, e);
+        }
+        return Optional.of(typeNames.build());
+    }
+
+    /**
+     * @param root The URL of a classpath root, as returned by {@link #rootOf(URL, String)}
+     * @return The class names listed by the index file of this root
+     */
+    public ImmutableSet<String> getRootClassNames(String root) {
+        return classNamesByRoot.get(root);
+    }
+
+    /**
+     * Filter the indexed classes on the given packages, sub-packages included.
+     *
+     * @param basePackages The packages to keep, an empty package matches all the classes
+     * @return The indexed class names matching one of the packages
+     */
+    public ImmutableSet<String> getClassNames(Collection<String> basePackages) {
+        return classNames.stream()
+                .filter(className -> basePackages.stream().anyMatch(p -> isInPackage(className, p)))
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    private static boolean isInPackage(String className, String basePackage) {
+        return basePackage.isEmpty()
+                || (className.startsWith(basePackage) && className.length() > basePackage.length()
+                && className.charAt(basePackage.length()) == '.');
+    }
+}
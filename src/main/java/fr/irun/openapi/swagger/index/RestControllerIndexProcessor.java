@@ -0,0 +1,141 @@
+package fr.irun.openapi.swagger.index;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>Annotation processor writing the {@link RestControllerIndex} at compile time.</p>
+ * <p>All the types annotated with {@code @RestController}, directly or through a meta-annotation, are listed in
+ * {@link RestControllerIndex#INDEX_LOCATION}. On incremental compilation, the entries of the previous index are
+ * kept as long as the type still exists and is still a controller.</p>
+ * <p>All the classes seen by the processor, controllers or not, are listed in
+ * {@link RestControllerIndex#CHECKED_TYPES_LOCATION}, so a class compiled later without the processor can be told
+ * apart from its file name.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class RestControllerIndexProcessor extends AbstractProcessor {
+    private static final String REST_CONTROLLER = "org.springframework.web.bind.annotation.RestController";
+
+    private final Set<String> controllers = new TreeSet<>();
+    private final Set<String> checkedTypes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            roundEnv.getRootElements().forEach(this::collect);
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element.getKind().isClass() || element.getKind().isInterface())) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        checkedTypes.add(binaryName);
+        if (type.getKind() == ElementKind.CLASS && isRestController(type, new HashSet<>())) {
+            controllers.add(binaryName);
+        }
+        type.getEnclosedElements().forEach(this::collect);
+    }
+
+    private boolean isRestController(Element element, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (REST_CONTROLLER.equals(name)) {
+                return true;
+            }
+            if (!name.startsWith("java.lang.annotation.") && visited.add(name) && isRestController(annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        Set<String> entries = new TreeSet<>(controllers);
+        for (String previous : readPrevious(RestControllerIndex.INDEX_LOCATION)) {
+            TypeElement type = getTypeElement(previous);
+            if (type != null && isRestController(type, new HashSet<>())) {
+                entries.add(previous);
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        Set<String> types = new TreeSet<>(checkedTypes);
+        for (String previous : readPrevious(RestControllerIndex.CHECKED_TYPES_LOCATION)) {
+            if (getTypeElement(previous) != null) {
+                types.add(previous);
+            }
+        }
+        write(RestControllerIndex.INDEX_LOCATION, entries);
+        write(RestControllerIndex.CHECKED_TYPES_LOCATION, types);
+    }
+
+    private TypeElement getTypeElement(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+    }
+
+    private void write(String location, Set<String> entries) {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + location + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private ImmutableSet<String> readPrevious(String location) {
+        ImmutableSet.Builder<String> previous = ImmutableSet.builder();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (InputStream is = resource.openInputStream()) {
+                RestControllerIndex.readIndex(is, previous);
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return ImmutableSet.of();
+        } catch (IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Previous " + location + " ignored: " + e.getLocalizedMessage());
+            return ImmutableSet.of();
+        }
+        return previous.build();
+    }
+}
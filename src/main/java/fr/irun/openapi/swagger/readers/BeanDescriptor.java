@@ -0,0 +1,162 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>The Jackson introspection of a bean used as parameter, with the merged annotations of each property.</p>
+ * <p>The descriptors are cached in the class of the type whose class loader is visible from the loaders of all the
+ * other classes of the type, usually a type argument such as {@code Dto} in {@code List<Dto>}. A cached descriptor
+ * only refers to classes visible from that class loader, so it never keeps a child class loader reachable. A type
+ * mixing classes of unrelated class loaders is not cached. The mappers are weakly referenced, compared by
+ * identity.</p>
+ */
+@Getter
+public final class BeanDescriptor {
+    private static final ClassValue<ConcurrentMap<ObjectMapper, ConcurrentMap<JavaType, BeanDescriptor>>> DESCRIPTORS =
+            new ClassValue<ConcurrentMap<ObjectMapper, ConcurrentMap<JavaType, BeanDescriptor>>>() {
+                @Override
+                protected ConcurrentMap<ObjectMapper, ConcurrentMap<JavaType, BeanDescriptor>> computeValue(Class<?> type) {
+                    return new MapMaker().weakKeys().makeMap();
+                }
+            };
+
+    private final BeanDescription beanDescription;
+    /**
+     * The properties with a type, in the Jackson order.
+     */
+    private final ImmutableList<PropertyDescriptor> properties;
+
+    private BeanDescriptor(BeanDescription beanDescription) {
+        this.beanDescription = beanDescription;
+        ImmutableList.Builder<PropertyDescriptor> builder = ImmutableList.builder();
+        for (BeanPropertyDefinition propDef : beanDescription.findProperties()) {
+            PropertyDescriptor property = new PropertyDescriptor(propDef);
+            if (property.getType() != null) {
+                builder.add(property);
+            }
+        }
+        this.properties = builder.build();
+    }
+
+    /**
+     * Get the descriptor of a bean type, introspecting it on first access.
+     *
+     * @param mapper The mapper used for the introspection
+     * @param type   The bean type
+     * @return The cached descriptor
+     */
+    public static BeanDescriptor of(ObjectMapper mapper, JavaType type) {
+        Class<?> owner = owner(type);
+        if (owner == null) {
+            return new BeanDescriptor(mapper.getSerializationConfig().introspect(type));
+        }
+        return DESCRIPTORS.get(owner)
+                .computeIfAbsent(mapper, m -> new ConcurrentHashMap<>())
+                .computeIfAbsent(type, t -> new BeanDescriptor(mapper.getSerializationConfig().introspect(type)));
+    }
+
+    /**
+     * @param type The bean type
+     * @return The class of the type with the most specific class loader, null if the loaders are unrelated
+     */
+    private static Class<?> owner(JavaType type) {
+        Class<?> owner = type.getRawClass();
+        Deque<JavaType> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            JavaType current = queue.poll();
+            Class<?> rawClass = current.getRawClass();
+            if (!isVisibleFrom(rawClass, owner)) {
+                if (!isVisibleFrom(owner, rawClass)) {
+                    return null;
+                }
+                owner = rawClass;
+            }
+            queue.addAll(current.getBindings().getTypeParameters());
+            if (current.getContentType() != null) {
+                queue.add(current.getContentType());
+            }
+            if (current.getKeyType() != null) {
+                queue.add(current.getKeyType());
+            }
+        }
+        return owner;
+    }
+
+    private static boolean isVisibleFrom(Class<?> type, Class<?> from) {
+        ClassLoader loader = type.getClassLoader();
+        for (ClassLoader current = from.getClassLoader(); current != null; current = current.getParent()) {
+            if (current == loader) {
+                return true;
+            }
+        }
+        // the bootstrap class loader is the ancestor of all the loaders
+        return loader == null;
+    }
+
+    /**
+     * A bean property with the annotations of its field, setter and getter, without duplicates.
+     */
+    @Getter
+    public static final class PropertyDescriptor {
+        private final String name;
+        /**
+         * The type of the field, else of the setter parameter, else of the getter.
+         */
+        private final Type type;
+        private final ImmutableList<Annotation> annotations;
+
+        private PropertyDescriptor(BeanPropertyDefinition propDef) {
+            this.name = propDef.getName();
+            AnnotatedField field = propDef.getField();
+            AnnotatedMethod setter = propDef.getSetter();
+            AnnotatedMethod getter = propDef.getGetter();
+            Set<Annotation> merged = new LinkedHashSet<>();
+            Type propertyType = null;
+
+            if (field != null) {
+                propertyType = field.getType();
+                addAnnotations(field, merged);
+            }
+            if (setter != null) {
+                if (propertyType == null) {
+                    // stays null if the setter has no parameter
+                    propertyType = setter.getParameterType(0);
+                }
+                addAnnotations(setter, merged);
+            }
+            if (getter != null) {
+                if (propertyType == null) {
+                    propertyType = getter.getType();
+                }
+                addAnnotations(getter, merged);
+            }
+            this.type = propertyType;
+            this.annotations = ImmutableList.copyOf(merged);
+        }
+
+        private static void addAnnotations(AnnotatedMember annotated, Set<Annotation> merged) {
+            for (Annotation annotation : annotated.getAllAnnotations().annotations()) {
+                merged.add(annotation);
+            }
+        }
+    }
+}
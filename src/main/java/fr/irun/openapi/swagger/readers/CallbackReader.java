@@ -25,6 +25,12 @@ public final class CallbackReader {
             Method method, RequestMapping methodMapping, RequestMapping classMapping, JsonView jsonViewAnnotation) {
         List<io.swagger.v3.oas.annotations.callbacks.Callback> apiCallbacks =
                 ReflectionUtils.getRepeatableAnnotations(method, io.swagger.v3.oas.annotations.callbacks.Callback.class);
+        return readCallback(apiCallbacks, methodMapping, classMapping, jsonViewAnnotation);
+    }
+
+    public Map<String, Callback> readCallback(
+            List<io.swagger.v3.oas.annotations.callbacks.Callback> apiCallbacks,
+            RequestMapping methodMapping, RequestMapping classMapping, JsonView jsonViewAnnotation) {
         Map<String, Callback> callbacks = Maps.newLinkedHashMap();
         if (apiCallbacks != null) {
             for (io.swagger.v3.oas.annotations.callbacks.Callback methodCallback : apiCallbacks) {
@@ -1,24 +1,19 @@
 package fr.irun.openapi.swagger.readers;
 
 import com.fasterxml.jackson.annotation.JsonView;
-import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.google.common.base.Strings;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import fr.irun.openapi.swagger.utils.IgnoredRoutes;
 import fr.irun.openapi.swagger.utils.OpenApiHttpMethod;
 import fr.irun.openapi.swagger.utils.OperationIdProvider;
+import fr.irun.openapi.swagger.utils.PathTemplate;
 import fr.irun.openapi.swagger.utils.ReaderUtils;
+import fr.irun.openapi.swagger.utils.ResolvedSchemaCache;
 import fr.irun.openapi.swagger.utils.SpringTypeResolver;
-import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.ParameterProcessor;
-import io.swagger.v3.core.util.PathUtils;
-import io.swagger.v3.core.util.ReflectionUtils;
-import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.models.Components;
@@ -35,13 +30,12 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.MatrixVariable;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.lang.annotation.Annotation;
@@ -49,16 +43,14 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @AllArgsConstructor
 public final class ClazzMethodReader {
@@ -68,32 +60,58 @@ public final class ClazzMethodReader {
     public static final String DEFAULT_STATUS = "200";
 
     private final boolean isReadAllResources;
-    private final Collection<String> ignoredRoutes;
+    private final IgnoredRoutes ignoredRoutes;
     private final GlobalElementReader globalElementReader;
+    private final ControllerContext controllerContext;
     private final CallbackReader callbackReader;
     private final OperationReader operationReader;
     private final OperationIdProvider operationIdProvider;
-    private final OpenAPIExtension extension;
+    private final ExtensionPipeline extensionPipeline;
+    private final ResolvedSchemaCache resolvedSchemaCache;
 
     private final RequestMapping clazzRequestMappingAnnotation;
     private final String parentPath;
 
     public Optional<Map.Entry<String, PathItem>> read(Method method) {
-        if (isOperationHidden(method)
-                || ReflectionUtils.isOverriddenMethod(method, method.getDeclaringClass())) {
+        if (!ControllerMethodIndex.of(method.getDeclaringClass()).isCandidate(method)) {
             return Optional.empty();
         }
-        RequestMapping methodRequestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
-        String operationPath = ReaderUtils.getPath(clazzRequestMappingAnnotation, methodRequestMapping, parentPath, false);
+        MethodDescriptor descriptor = MethodDescriptor.of(method);
+        RequestMapping methodRequestMapping = descriptor.getRequestMapping();
+        return read(descriptor, methodRequestMapping,
+                PathTemplate.forMappings(clazzRequestMappingAnnotation, methodRequestMapping, parentPath), null);
+    }
+
+    /**
+     * Read a method with the route resolved by Spring. The path, HTTP method and media types of the route replace the
+     * ones of the annotations.
+     *
+     * @param mappedMethod The method and its route
+     * @return The path and the operation, empty if the operation is hidden or ignored
+     */
+    public Optional<Map.Entry<String, PathItem>> read(MappedMethod mappedMethod) {
+        return read(MethodDescriptor.of(mappedMethod.getMethod()), mappedMethod.getRequestMapping(),
+                Optional.of(PathTemplate.of(parentPath, null, mappedMethod.getPath())),
+                mappedMethod.getRequestMethod());
+    }
+
+    /**
+     * @param requestMethod The HTTP method of the route, null to extract it from the method
+     */
+    private Optional<Map.Entry<String, PathItem>> read(MethodDescriptor descriptor, RequestMapping methodRequestMapping,
+                                                       Optional<PathTemplate> pathTemplate, RequestMethod requestMethod) {
+        if (isOperationHidden(descriptor)) {
+            return Optional.empty();
+        }
+        Method method = descriptor.getMethod();
 
         // skip if path is the same as parent, e.g. for @ApplicationPath annotated application
         // extending resource config.
-        if (OperationParser.isSamePath(operationPath, parentPath)) {
+        if (!pathTemplate.isPresent() || pathTemplate.get().isSameAsParent()) {
             return Optional.empty();
         }
 
-        Map<String, String> regexMap = Maps.newLinkedHashMap();
-        operationPath = PathUtils.parsePath(operationPath, regexMap);
+        String operationPath = pathTemplate.get().getPath();
         if (operationPath == null) {
             return Optional.empty();
         }
@@ -101,81 +119,36 @@ public final class ClazzMethodReader {
             return Optional.empty();
         }
 
-        String httpMethod = ReaderUtils.extractOperationMethod(method, OpenAPIExtensions.chain());
+        String httpMethod = (requestMethod != null)
+                ? requestMethod.name().toLowerCase(Locale.ROOT)
+                : ReaderUtils.extractOperationMethod(method, extensionPipeline.chain(OpenAPIExtension.Hook.EXTRACT_OPERATION_METHOD));
         if (StringUtils.isBlank(httpMethod)) {
             return Optional.empty();
         }
 
-        Operation apiOperation = ReflectionUtils.getAnnotation(method, Operation.class);
-        JsonView jsonViewAnnotation;
-        JsonView jsonViewAnnotationForRequestBody;
-        if (apiOperation != null && apiOperation.ignoreJsonView()) {
-            jsonViewAnnotation = null;
-            jsonViewAnnotationForRequestBody = null;
-        } else {
-            jsonViewAnnotation = ReflectionUtils.getAnnotation(method, JsonView.class);
-            // If one and only one exists, use the @JsonView annotation from the method parameter annotated
-            // with @RequestBody. Otherwise fall back to the @JsonView annotation for the method itself.
-            jsonViewAnnotationForRequestBody = (JsonView) Arrays.stream(ReflectionUtils.getParameterAnnotations(method))
-                    .filter(arr -> Arrays.stream(arr).anyMatch(annotation ->
-                            annotation.annotationType()
-                                    .equals(io.swagger.v3.oas.annotations.parameters.RequestBody.class)
-                    ))
-                    .flatMap(Arrays::stream)
-                    .filter(annotation -> annotation.annotationType().equals(JsonView.class))
-                    .reduce((a, b) -> jsonViewAnnotation)
-                    .orElse(jsonViewAnnotation);
-        }
+        JsonView jsonViewAnnotation = descriptor.getJsonView();
+        JsonView jsonViewAnnotationForRequestBody = descriptor.getRequestBodyJsonView();
 
-        io.swagger.v3.oas.annotations.responses.ApiResponse[] classResponses =
-                ReflectionUtils.getRepeatableAnnotationsArray(method.getDeclaringClass(), io.swagger.v3.oas.annotations.responses.ApiResponse.class);
-        io.swagger.v3.oas.models.Operation operation = parseMethod(
-                method, methodRequestMapping, clazzRequestMappingAnnotation, jsonViewAnnotation, classResponses);
+        io.swagger.v3.oas.models.Operation operation = parseMethod(descriptor, methodRequestMapping, clazzRequestMappingAnnotation);
 
         List<Parameter> operationParameters = new ArrayList<>();
         List<Parameter> formParameters = new ArrayList<>();
-        for (java.lang.reflect.Parameter parameter : method.getParameters()) {
-            Type parameterizedType = parameter.getParameterizedType();
-
-            if (StringUtils.isBlank(httpMethod)) {
-                continue;
-            }
-
-            @SuppressWarnings("deprecation") final Type type = TypeFactory.defaultInstance()
-                    .constructType(parameterizedType, method.getDeclaringClass());
-
-            Set<Annotation> annotations = ANNOTATION_TYPES.stream()
-                    .map(at -> AnnotatedElementUtils.findMergedAnnotation(parameter, at))
-                    .filter(Objects::nonNull)
-                    .map(a -> {
-                        Object value = AnnotationUtils.getValue(a, "value");
-                        if (value == null || Strings.isNullOrEmpty(value.toString())) {
-                            return AnnotationUtils.synthesizeAnnotation(ImmutableMap.of("value", parameter.getName()), a.annotationType(), parameter);
-                        } else {
-                            return a;
-                        }
-                    }).collect(Collectors.toSet());
-
-            io.swagger.v3.oas.annotations.Parameter paramAnnotation = AnnotationUtils.getAnnotation(
-                    parameter, io.swagger.v3.oas.annotations.Parameter.class);
-            if (paramAnnotation != null) {
-                annotations.add(paramAnnotation);
-            }
-
+        for (MethodDescriptor.ParameterDescriptor parameter : descriptor.getParameters()) {
+            io.swagger.v3.oas.annotations.Parameter paramAnnotation = parameter.getApiParameter();
             Type paramType = ParameterProcessor.getParameterType(paramAnnotation, true);
             if (paramType == null) {
-                paramType = type;
+                paramType = parameter.getType();
             } else {
                 if (!(paramType instanceof Class)) {
-                    paramType = type;
+                    paramType = parameter.getType();
                 }
             }
 
             final Components components = globalElementReader.getComponents();
-            ResolvedParameter resolvedParameter = extension.extractParameters(
-                    ImmutableList.copyOf(annotations), paramType,
+            ResolvedParameter resolvedParameter = extensionPipeline.getLast().extractParameters(
+                    parameter.getAnnotations(), paramType,
                     new HashSet<>(), components, methodRequestMapping, clazzRequestMappingAnnotation,
-                    true, jsonViewAnnotation, null);
+                    true, jsonViewAnnotation, extensionPipeline.endOfChain());
 
             operationParameters.addAll(resolvedParameter.getParameters());
             // collect params to use together as request Body
@@ -183,7 +156,7 @@ public final class ClazzMethodReader {
             if (resolvedParameter.getRequestBody() != null) {
                 processRequestBody(
                         resolvedParameter.getRequestBody(), operation, methodRequestMapping, clazzRequestMappingAnnotation,
-                        parameter.getDeclaredAnnotations(), jsonViewAnnotationForRequestBody);
+                        parameter.getDeclaredAnnotations().toArray(new Annotation[0]), jsonViewAnnotationForRequestBody);
             }
         }
 
@@ -208,7 +181,7 @@ public final class ClazzMethodReader {
             }
         }
 
-        final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
+        final Iterator<OpenAPIExtension> chain = extensionPipeline.chain(OpenAPIExtension.Hook.DECORATE_OPERATION);
         if (chain.hasNext()) {
             final OpenAPIExtension extension = chain.next();
             extension.decorateOperation(operation, method, chain);
@@ -220,29 +193,26 @@ public final class ClazzMethodReader {
     }
 
     private io.swagger.v3.oas.models.Operation parseMethod(
-            Method method,
-            RequestMapping methodMapping, RequestMapping classMapping,
-            JsonView jsonViewAnnotation,
-            io.swagger.v3.oas.annotations.responses.ApiResponse[] classResponses) {
-
-        io.swagger.v3.oas.annotations.Operation apiOperation = ReflectionUtils.getAnnotation(method, io.swagger.v3.oas.annotations.Operation.class);
+            MethodDescriptor descriptor, RequestMapping methodMapping, RequestMapping classMapping) {
 
-        List<io.swagger.v3.oas.annotations.security.SecurityRequirement> apiSecurity =
-                ReflectionUtils.getRepeatableAnnotations(method, io.swagger.v3.oas.annotations.security.SecurityRequirement.class);
+        Method method = descriptor.getMethod();
+        JsonView jsonViewAnnotation = descriptor.getJsonView();
+        io.swagger.v3.oas.annotations.Operation apiOperation = descriptor.getOperation();
+        List<io.swagger.v3.oas.annotations.security.SecurityRequirement> apiSecurity = descriptor.getSecurityRequirements();
 
         io.swagger.v3.oas.models.Operation operation = Optional.ofNullable(apiOperation)
                 .map(op -> operationReader.read(op, methodMapping, classMapping, jsonViewAnnotation))
                 .orElseGet(io.swagger.v3.oas.models.Operation::new);
 
         // callbacks
-        Map<String, Callback> callbacks = callbackReader.readCallback(method, methodMapping, classMapping, jsonViewAnnotation);
+        Map<String, Callback> callbacks = callbackReader.readCallback(descriptor.getCallbacks(), methodMapping, classMapping, jsonViewAnnotation);
         if (!callbacks.isEmpty()) {
             operation.setCallbacks(callbacks);
         }
 
         // security
-        globalElementReader.getSecurityRequirements().forEach(operation::addSecurityItem);
-        if (apiSecurity != null) {
+        controllerContext.getSecurityRequirements().forEach(operation::addSecurityItem);
+        if (!apiSecurity.isEmpty()) {
             SecurityParser.getSecurityRequirements(apiSecurity.toArray(new io.swagger.v3.oas.annotations.security.SecurityRequirement[0]))
                     .ifPresent(securityRequirements -> securityRequirements.stream()
                             .filter(r -> operation.getSecurity() == null || !operation.getSecurity().contains(r))
@@ -250,53 +220,35 @@ public final class ClazzMethodReader {
         }
 
         // servers
-        List<io.swagger.v3.oas.models.servers.Server> classServers = globalElementReader.getServers();
-        if (classServers != null) {
-            classServers.forEach(operation::addServersItem);
-        }
+        controllerContext.getServers().forEach(operation::addServersItem);
 
-        List<Server> apiServers = ReflectionUtils.getRepeatableAnnotations(method, Server.class);
-        if (apiServers != null) {
+        List<Server> apiServers = descriptor.getServers();
+        if (!apiServers.isEmpty()) {
             AnnotationsUtils.getServers(apiServers.toArray(new Server[0]))
                     .ifPresent(servers -> servers.forEach(operation::addServersItem));
         }
 
         // external docs
-        io.swagger.v3.oas.annotations.ExternalDocumentation apiExternalDocumentation =
-                ReflectionUtils.getAnnotation(method, io.swagger.v3.oas.annotations.ExternalDocumentation.class);
-        AnnotationsUtils.getExternalDocumentation(apiExternalDocumentation).ifPresent(operation::setExternalDocs);
+        AnnotationsUtils.getExternalDocumentation(descriptor.getExternalDocumentation()).ifPresent(operation::setExternalDocs);
 
         // method tags
-        List<io.swagger.v3.oas.annotations.tags.Tag> apiTags =
-                ReflectionUtils.getRepeatableAnnotations(method, io.swagger.v3.oas.annotations.tags.Tag.class);
-        if (apiTags != null) {
-            apiTags.stream().distinct()
-                    .map(io.swagger.v3.oas.annotations.tags.Tag::name)
-                    .forEach(operation::addTagsItem);
-        }
+        descriptor.getTags().stream().distinct()
+                .map(io.swagger.v3.oas.annotations.tags.Tag::name)
+                .forEach(operation::addTagsItem);
 
         // parameters
-        if (globalElementReader.getParameters() != null) {
-            for (Parameter globalParameter : globalElementReader.getParameters()) {
-                operation.addParametersItem(globalParameter);
-            }
-        }
+        controllerContext.getParameters().forEach(operation::addParametersItem);
         final Components components = globalElementReader.getComponents();
-        List<io.swagger.v3.oas.annotations.Parameter> apiParameters =
-                ReflectionUtils.getRepeatableAnnotations(method, io.swagger.v3.oas.annotations.Parameter.class);
-        if (apiParameters != null) {
-            for (io.swagger.v3.oas.annotations.Parameter parameter : apiParameters) {
-                ResolvedParameter resolvedParameter = extension.extractParameters(
-                        Collections.singletonList(parameter), ParameterProcessor.getParameterType(parameter),
-                        Collections.emptySet(), components, classMapping, methodMapping,
-                        true, jsonViewAnnotation, null);
-                resolvedParameter.getParameters().forEach(operation::addParametersItem);
-            }
+        for (io.swagger.v3.oas.annotations.Parameter parameter : descriptor.getApiParameters()) {
+            ResolvedParameter resolvedParameter = extensionPipeline.getLast().extractParameters(
+                    Collections.singletonList(parameter), ParameterProcessor.getParameterType(parameter),
+                    Collections.emptySet(), components, classMapping, methodMapping,
+                    true, jsonViewAnnotation, extensionPipeline.endOfChain());
+            resolvedParameter.getParameters().forEach(operation::addParametersItem);
         }
 
         // RequestBody in Method
-        io.swagger.v3.oas.annotations.parameters.RequestBody apiRequestBody =
-                ReflectionUtils.getAnnotation(method, io.swagger.v3.oas.annotations.parameters.RequestBody.class);
+        io.swagger.v3.oas.annotations.parameters.RequestBody apiRequestBody = descriptor.getRequestBody();
         if (apiRequestBody != null && operation.getRequestBody() == null) {
             OperationParser.getRequestBody(apiRequestBody, classMapping, methodMapping, components, jsonViewAnnotation)
                     .ifPresent(operation::setRequestBody);
@@ -307,27 +259,17 @@ public final class ClazzMethodReader {
             operation.setOperationId(operationIdProvider.provideOperationId(method.getName()));
         }
 
-        // classResponses
-        if (classResponses != null && classResponses.length > 0) {
-            OperationParser.getApiResponses(
-                    classResponses,
-                    null,
-                    null,
-                    components,
-                    jsonViewAnnotation
-            ).ifPresent(responses -> {
-                if (operation.getResponses() == null) {
-                    operation.setResponses(responses);
-                } else {
-                    responses.forEach(operation.getResponses()::addApiResponse);
-                }
-            });
-        }
+        // classResponses, parsed once for the controller, copied for each operation
+        controllerContext.getClassResponses(method.getDeclaringClass(), jsonViewAnnotation).ifPresent(responses -> {
+            if (operation.getResponses() == null) {
+                operation.setResponses(new ApiResponses());
+            }
+            responses.forEach(operation.getResponses()::addApiResponse);
+        });
 
         // apiResponses
-        List<io.swagger.v3.oas.annotations.responses.ApiResponse> apiResponses =
-                ReflectionUtils.getRepeatableAnnotations(method, io.swagger.v3.oas.annotations.responses.ApiResponse.class);
-        if (apiResponses != null && apiResponses.size() > 0) {
+        List<io.swagger.v3.oas.annotations.responses.ApiResponse> apiResponses = descriptor.getApiResponses();
+        if (!apiResponses.isEmpty()) {
             OperationParser.getApiResponses(
                     apiResponses.toArray(new io.swagger.v3.oas.annotations.responses.ApiResponse[0]),
                     null,
@@ -344,13 +286,7 @@ public final class ClazzMethodReader {
         }
 
         // class tags after tags defined as field of @Operation
-        Set<Tag> classTags = globalElementReader.getTags();
-        if (classTags != null) {
-            classTags.stream()
-                    .distinct()
-                    .map(Tag::getName)
-                    .forEach(operation::addTagsItem);
-        }
+        controllerContext.getTagNames().forEach(operation::addTagsItem);
 
         // handle return type, add as response in case.
         ApiResponses extractedResponses = extractMethodReturnType(method, methodMapping, classMapping, jsonViewAnnotation)
@@ -378,8 +314,7 @@ public final class ClazzMethodReader {
         Type returnType = SpringTypeResolver.resolve(method.getGenericReturnType());
         if (!shouldIgnoreClass(returnType.getTypeName())) {
             Content content = new Content();
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(
-                    new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
+            ResolvedSchema resolvedSchema = resolvedSchemaCache.resolve(returnType, jsonViewAnnotation, true);
             if (resolvedSchema.schema != null) {
                 Schema<?> returnTypeSchema = resolvedSchema.schema;
                 MediaType mediaType = new MediaType().schema(returnTypeSchema);
@@ -497,13 +432,12 @@ public final class ClazzMethodReader {
         return null;
     }
 
-    private boolean isOperationHidden(Method method) {
-        Operation apiOperation = ReflectionUtils.getAnnotation(method, Operation.class);
+    private boolean isOperationHidden(MethodDescriptor descriptor) {
+        Operation apiOperation = descriptor.getOperation();
         if (apiOperation != null && apiOperation.hidden()) {
             return true;
         }
-        Hidden hidden = method.getAnnotation(Hidden.class);
-        if (hidden != null) {
+        if (descriptor.isHidden()) {
             return true;
         }
         return !isReadAllResources && apiOperation == null;
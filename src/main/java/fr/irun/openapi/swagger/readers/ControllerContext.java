@@ -0,0 +1,80 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.google.common.collect.ImmutableList;
+import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>The class-level elements of a controller, computed once and shared by all its operations.</p>
+ * <p>The parameters, security requirements and servers are shared as is and must not be modified, the operations
+ * only get their own lists holding them. The class responses are parsed once but each operation gets its own copy,
+ * down to the media types, since the decorating extensions and the listeners edit them.</p>
+ */
+@Getter
+public final class ControllerContext {
+    private final GlobalElementReader globalElementReader;
+    private final ImmutableList<Parameter> parameters;
+    private final ImmutableList<SecurityRequirement> securityRequirements;
+    private final ImmutableList<Server> servers;
+    private final ImmutableList<String> tagNames;
+    /**
+     * The class {@link io.swagger.v3.oas.annotations.responses.ApiResponse} parsed by declaring class and
+     * {@link JsonView}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<List<Object>, Optional<ApiResponses>> classResponses = new HashMap<>();
+
+    /**
+     * @param globalElementReader The class-level elements, completely read
+     */
+    public ControllerContext(GlobalElementReader globalElementReader) {
+        this.globalElementReader = globalElementReader;
+        this.parameters = ImmutableList.copyOf(globalElementReader.getParameters());
+        this.securityRequirements = ImmutableList.copyOf(globalElementReader.getSecurityRequirements());
+        this.servers = ImmutableList.copyOf(globalElementReader.getServers());
+        this.tagNames = globalElementReader.getTags().stream()
+                .map(Tag::getName)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Get the {@link ApiResponses} declared on a controller class, parsing them on first access.
+     *
+     * @param declaringClass     The class declaring the operation method
+     * @param jsonViewAnnotation The {@link JsonView} of the operation, may be null
+     * @return A copy of the parsed class responses, the schemas and examples being shared
+     */
+    public Optional<ApiResponses> getClassResponses(Class<?> declaringClass, JsonView jsonViewAnnotation) {
+        return getParsedClassResponses(declaringClass, jsonViewAnnotation).map(parsed -> {
+            ApiResponses copy = new ApiResponses();
+            parsed.forEach((name, response) -> copy.addApiResponse(name, OperationParser.copyOf(response)));
+            copy.setExtensions(parsed.getExtensions() == null ? null : new HashMap<>(parsed.getExtensions()));
+            return copy;
+        });
+    }
+
+    private Optional<ApiResponses> getParsedClassResponses(Class<?> declaringClass, JsonView jsonViewAnnotation) {
+        return classResponses.computeIfAbsent(Arrays.asList(declaringClass, jsonViewAnnotation), key -> {
+            io.swagger.v3.oas.annotations.responses.ApiResponse[] responses = ReflectionUtils.getRepeatableAnnotationsArray(
+                    declaringClass, io.swagger.v3.oas.annotations.responses.ApiResponse.class);
+            if (responses == null || responses.length == 0) {
+                return Optional.empty();
+            }
+            return OperationParser.getApiResponses(
+                    responses, null, null, globalElementReader.getComponents(), jsonViewAnnotation);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package fr.irun.openapi.swagger.readers;
+
+import fr.irun.openapi.swagger.utils.OpenApiHttpMethod;
+import fr.irun.openapi.swagger.utils.OperationIdProvider;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.tags.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The part of the OpenAPI definition read from a single controller, independently of the other controllers.
+ */
+@Getter
+@AllArgsConstructor
+final class ControllerFragment {
+    private final Class<?> controller;
+    /**
+     * The elements of the {@link io.swagger.v3.oas.annotations.OpenAPIDefinition} of the controller, if any.
+     */
+    private final OpenAPI definition;
+    private final Map<String, PathItem> paths;
+    private final Components components;
+    private final Set<Tag> tags;
+    /**
+     * The provider used while reading the controller, to replay the OperationIds on merge.
+     */
+    private final OperationIdProvider operationIdProvider;
+
+    /**
+     * Add a {@link PathItem} to the paths. The operations of an existing path are replaced by the ones of the
+     * added item when defined.
+     *
+     * @param paths    The paths to update
+     * @param path     The path of the item
+     * @param pathItem The item to add
+     */
+    static void mergePathItem(Map<String, PathItem> paths, String path, PathItem pathItem) {
+        PathItem originalPathItem = paths.get(path);
+        if (originalPathItem == null) {
+            paths.put(path, pathItem);
+            return;
+        }
+        for (OpenApiHttpMethod value : OpenApiHttpMethod.values()) {
+            Optional.ofNullable(value.pathItemGetter.apply(pathItem))
+                    .ifPresent(o -> value.pathItemSetter.apply(originalPathItem, o));
+        }
+    }
+
+    /**
+     * Rename the OperationIds of the fragment, including the ones of the callbacks.
+     *
+     * @param operationIds The new OperationIds by the current ones
+     */
+    void renameOperationIds(Map<String, String> operationIds) {
+        paths.values().forEach(pathItem -> renameOperationIds(pathItem, operationIds));
+    }
+
+    private static void renameOperationIds(PathItem pathItem, Map<String, String> operationIds) {
+        for (OpenApiHttpMethod value : OpenApiHttpMethod.values()) {
+            Operation operation = value.pathItemGetter.apply(pathItem);
+            if (operation == null) {
+                continue;
+            }
+            Optional.ofNullable(operation.getOperationId())
+                    .map(operationIds::get)
+                    .ifPresent(operation::setOperationId);
+            if (operation.getCallbacks() != null) {
+                operation.getCallbacks().values().forEach(callback ->
+                        callback.values().forEach(callbackPathItem -> renameOperationIds(callbackPathItem, operationIds)));
+            }
+        }
+    }
+}
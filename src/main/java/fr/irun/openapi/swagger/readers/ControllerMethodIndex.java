@@ -0,0 +1,92 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableSet;
+import io.swagger.v3.core.util.ReflectionUtils;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>The public methods of a controller, sorted once by kind.</p>
+ * <p>The indexes are cached by class, the methods of {@link Object} and the synthetic methods, bridges included, are
+ * never candidates to be read, nor are the methods overriding a generic method of a super type.</p>
+ */
+@Getter
+public final class ControllerMethodIndex {
+    private static final ClassValue<ControllerMethodIndex> INDEXES = new ClassValue<ControllerMethodIndex>() {
+        @Override
+        protected ControllerMethodIndex computeValue(Class<?> type) {
+            return new ControllerMethodIndex(type);
+        }
+    };
+
+    /**
+     * The public methods declared by the controller.
+     */
+    private final ImmutableSet<Method> declared;
+    /**
+     * The public methods inherited from a super type, except {@link Object}.
+     */
+    private final ImmutableSet<Method> inherited;
+    private final ImmutableSet<Method> bridges;
+    /**
+     * The methods overriding a generic method, as checked by {@link ReflectionUtils#isOverriddenMethod}.
+     */
+    private final ImmutableSet<Method> overridden;
+    /**
+     * The methods to read, in the order of {@link Class#getMethods()}.
+     */
+    private final ImmutableSet<Method> candidates;
+
+    private ControllerMethodIndex(Class<?> controller) {
+        ImmutableSet.Builder<Method> declaredBuilder = ImmutableSet.builder();
+        ImmutableSet.Builder<Method> inheritedBuilder = ImmutableSet.builder();
+        ImmutableSet.Builder<Method> bridgesBuilder = ImmutableSet.builder();
+        ImmutableSet.Builder<Method> overriddenBuilder = ImmutableSet.builder();
+        ImmutableSet.Builder<Method> candidatesBuilder = ImmutableSet.builder();
+        for (Method method : controller.getMethods()) {
+            if (method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            if (method.isBridge()) {
+                bridgesBuilder.add(method);
+            }
+            if (method.getDeclaringClass() == controller) {
+                declaredBuilder.add(method);
+            } else {
+                inheritedBuilder.add(method);
+            }
+            if (method.isSynthetic()) {
+                continue;
+            }
+            if (ReflectionUtils.isOverriddenMethod(method, method.getDeclaringClass())) {
+                overriddenBuilder.add(method);
+            } else {
+                candidatesBuilder.add(method);
+            }
+        }
+        this.declared = declaredBuilder.build();
+        this.inherited = inheritedBuilder.build();
+        this.bridges = bridgesBuilder.build();
+        this.overridden = overriddenBuilder.build();
+        this.candidates = candidatesBuilder.build();
+    }
+
+    /**
+     * Get the index of a controller, building it on first access.
+     *
+     * @param controller The controller class
+     * @return The cached index
+     */
+    public static ControllerMethodIndex of(Class<?> controller) {
+        return INDEXES.get(controller);
+    }
+
+    /**
+     * @param method A method of the controller
+     * @return True if the method must be read
+     */
+    public boolean isCandidate(Method method) {
+        return candidates.contains(method);
+    }
+}
@@ -1,11 +1,7 @@
 package fr.irun.openapi.swagger.readers;
 
 import com.fasterxml.jackson.annotation.JsonView;
-import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.introspect.AnnotatedField;
-import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
-import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import fr.irun.openapi.swagger.utils.SpringTypeResolver;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ParameterProcessor;
@@ -24,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -103,18 +100,16 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                 List<Parameter> parameters = new ArrayList<>();
                 if (handleAdditionalAnnotation(
                         parameters, formParameters, annotation, relevantType, typesToSkip, classConsumes, methodConsumes,
-                        components, includeRequestBody, jsonViewAnnotation)) {
-                    ResolvedParameter extractParametersResult = ResolvedParameter.EMPTY;
-                    extractParametersResult.getParameters().addAll(parameters);
-                    extractParametersResult.getFormParameters().addAll(formParameters);
-                    return extractParametersResult;
+                        components, includeRequestBody, jsonViewAnnotation, ExtensionPipeline.fromChain(chain))) {
+                    return ResolvedParameter.builder()
+                            .parameters(parameters)
+                            .formParameters(formParameters)
+                            .build();
                 }
             }
         }
         List<Parameter> parameters = new ArrayList<>();
-        List<Parameter> processedParameters = new ArrayList<>();
-        List<Parameter> processedFormParameters = new ArrayList<>();
-        Parameter processedRequestBody = null;
+        ResolvedParameter.Builder resolved = ResolvedParameter.builder();
 
         if (parameter != null && (StringUtils.isNotBlank(parameter.getIn()) || StringUtils.isNotBlank(parameter.get$ref()))) {
             parameters.add(parameter);
@@ -128,12 +123,12 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     methodConsumes == null ? new String[0] : methodConsumes.value(), jsonViewAnnotation);
             if (unknownParameter != null) {
                 if (StringUtils.isNotBlank(unknownParameter.getIn()) && !FORM_PARAM.equals(unknownParameter.getIn())) {
-                    processedParameters.add(unknownParameter);
+                    resolved.parameter(unknownParameter);
                 } else if (FORM_PARAM.equals(unknownParameter.getIn())) {
                     unknownParameter.setIn(null);
-                    processedFormParameters.add(unknownParameter);
+                    resolved.formParameter(unknownParameter);
                 } else {
-                    processedRequestBody = unknownParameter;
+                    resolved.requestBody(unknownParameter);
                 }
             }
         }
@@ -147,72 +142,25 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     methodConsumes == null ? new String[0] : methodConsumes.value(),
                     jsonViewAnnotation);
             if (processedParameter != null) {
-                processedParameters.add(processedParameter);
+                resolved.parameter(processedParameter);
             }
         }
-        return new ResolvedParameter(processedParameters, processedRequestBody, processedFormParameters);
+        return resolved.build();
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
     private boolean handleAdditionalAnnotation(List<Parameter> parameters, List<Parameter> formParameters, Annotation annotation,
                                                final Type type, Set<Type> typesToSkip, RequestMapping classConsumes,
                                                RequestMapping methodConsumes, Components components, boolean includeRequestBody,
-                                               JsonView jsonViewAnnotation) {
+                                               JsonView jsonViewAnnotation, ExtensionPipeline extensionPipeline) {
         boolean processed = false;
         if (RequestBody.class.isAssignableFrom(annotation.getClass())) {
             // Use Jackson's logic for processing Beans
-            final BeanDescription beanDesc = mapper.getSerializationConfig().introspect(constructType(type));
-            final List<BeanPropertyDefinition> properties = beanDesc.findProperties();
-
-            for (final BeanPropertyDefinition propDef : properties) {
-                final AnnotatedField field = propDef.getField();
-                final AnnotatedMethod setter = propDef.getSetter();
-                final AnnotatedMethod getter = propDef.getGetter();
-                final List<Annotation> paramAnnotations = new ArrayList<>();
-                final Iterator<OpenAPIExtension> extensions = OpenAPIExtensions.chain();
-                Type paramType = null;
-
-                // Gather the field's details
-                if (field != null) {
-                    paramType = field.getType();
-
-                    for (final Annotation fieldAnnotation : field.getAllAnnotations().annotations()) {
-                        if (!paramAnnotations.contains(fieldAnnotation)) {
-                            paramAnnotations.add(fieldAnnotation);
-                        }
-                    }
-                }
-
-                // Gather the setter's details but only the ones we need
-                if (setter != null) {
-                    // Do not set the param class/type from the setter if the values are already identified
-                    if (paramType == null) {
-                        // paramType will stay null if there is no parameter
-                        paramType = setter.getParameterType(0);
-                    }
-
-                    for (final Annotation fieldAnnotation : setter.getAllAnnotations().annotations()) {
-                        if (!paramAnnotations.contains(fieldAnnotation)) {
-                            paramAnnotations.add(fieldAnnotation);
-                        }
-                    }
-                }
-
-                // Gather the getter's details but only the ones we need
-                if (getter != null) {
-                    // Do not set the param class/type from the getter if the values are already identified
-                    if (paramType == null) {
-                        paramType = getter.getType();
-                    }
-
-                    for (final Annotation fieldAnnotation : getter.getAllAnnotations().annotations()) {
-                        if (!paramAnnotations.contains(fieldAnnotation)) {
-                            paramAnnotations.add(fieldAnnotation);
-                        }
-                    }
-                }
-
-                if (paramType == null) {
+            for (final BeanDescriptor.PropertyDescriptor property : BeanDescriptor.of(mapper, constructType(type)).getProperties()) {
+                final List<Annotation> paramAnnotations = property.getAnnotations();
+                final Type paramType = property.getType();
+                final Iterator<OpenAPIExtension> extensions = extensionPipeline.chain(Hook.EXTRACT_PARAMETERS);
+                if (!extensions.hasNext()) {
                     continue;
                 }
 
@@ -251,6 +199,11 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
         return processed;
     }
 
+    @Override
+    public Set<Hook> getHooks() {
+        return EnumSet.of(Hook.EXTRACT_PARAMETERS);
+    }
+
     @Override
     protected boolean shouldIgnoreClass(Class<?> cls) {
         return cls.getName().startsWith("org.springframework.http.server.");
@@ -0,0 +1,113 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * <p>An immutable list of {@link OpenAPIExtension}, compiled into one chain per {@link OpenAPIExtension.Hook}.</p>
+ * <p>Each chain only holds the extensions declaring the hook, in the order of the list. A pipeline can be shared
+ * between threads and stays consistent when the extensions are replaced in {@link OpenAPIExtensions}.</p>
+ * <p>The chains know their pipeline, so an extension starting a new chain keeps using the pipeline of the read, see
+ * {@link #fromChain(Iterator)}.</p>
+ */
+public final class ExtensionPipeline {
+    private static final OpenAPIExtension[] NO_EXTENSION = new OpenAPIExtension[0];
+
+    private final ImmutableList<OpenAPIExtension> extensions;
+    private final Map<OpenAPIExtension.Hook, OpenAPIExtension[]> stages;
+    private final OpenAPIExtension last;
+
+    private ExtensionPipeline(ImmutableList<OpenAPIExtension> extensions) {
+        this.extensions = extensions;
+        this.last = extensions.isEmpty() ? null : extensions.get(extensions.size() - 1);
+        this.stages = new EnumMap<>(OpenAPIExtension.Hook.class);
+        for (OpenAPIExtension.Hook hook : OpenAPIExtension.Hook.values()) {
+            OpenAPIExtension[] stage = extensions.stream()
+                    .filter(extension -> extension.getHooks().contains(hook))
+                    .toArray(OpenAPIExtension[]::new);
+            stages.put(hook, stage.length == 0 ? NO_EXTENSION : stage);
+        }
+    }
+
+    /**
+     * Compile a pipeline from a list of extensions.
+     *
+     * @param extensions The extensions, in the order of the chains
+     * @return The compiled pipeline
+     */
+    public static ExtensionPipeline of(List<OpenAPIExtension> extensions) {
+        return new ExtensionPipeline(ImmutableList.copyOf(Objects.requireNonNull(extensions, "Extensions are mandatory !")));
+    }
+
+    public ImmutableList<OpenAPIExtension> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * @return The last extension of the pipeline, whatever its hooks
+     * @throws java.util.NoSuchElementException if the pipeline is empty
+     */
+    public OpenAPIExtension getLast() {
+        if (last == null) {
+            throw new NoSuchElementException("No extension in the pipeline");
+        }
+        return last;
+    }
+
+    /**
+     * Start a chain of the extensions implementing a hook.
+     *
+     * @param hook The called hook
+     * @return A new iterator on the extensions of the hook
+     */
+    public Iterator<OpenAPIExtension> chain(OpenAPIExtension.Hook hook) {
+        return new Chain(this, stages.get(hook));
+    }
+
+    /**
+     * @return An exhausted chain, given to an extension called directly
+     */
+    public Iterator<OpenAPIExtension> endOfChain() {
+        return new Chain(this, NO_EXTENSION);
+    }
+
+    /**
+     * Get the pipeline of a chain, to start another chain from the same extensions.
+     *
+     * @param chain The chain given to an extension, may be null
+     * @return The pipeline of the chain, the current pipeline of {@link OpenAPIExtensions} for a foreign chain
+     */
+    public static ExtensionPipeline fromChain(Iterator<OpenAPIExtension> chain) {
+        return (chain instanceof Chain) ? ((Chain) chain).pipeline : OpenAPIExtensions.getPipeline();
+    }
+
+    private static final class Chain implements Iterator<OpenAPIExtension> {
+        private final ExtensionPipeline pipeline;
+        private final OpenAPIExtension[] stage;
+        private int next;
+
+        private Chain(ExtensionPipeline pipeline, OpenAPIExtension[] stage) {
+            this.pipeline = pipeline;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < stage.length;
+        }
+
+        @Override
+        public OpenAPIExtension next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return stage[next++];
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import fr.irun.openapi.swagger.utils.ClassReferences;
+import fr.irun.openapi.swagger.utils.OperationIdProvider;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>A directory holding the fragment read from each controller, to read again only the modified controllers.</p>
+ * <p>A fragment is keyed by the configuration of the reader and by the bytecode of the controller and of all the types
+ * it references, transitively. The types of the platform are ignored and the types packaged in a jar are identified
+ * by the size and the modification time of the jar, without reading their references. The key also holds the code of
+ * rocket-swagger, swagger and Jackson, and a version of the configuration which can not be read from the classes, such
+ * as the settings of the model converters. The fragments are stored before being merged, so a fragment loaded from
+ * the directory is merged exactly as a fragment just read.</p>
+ * <p>The hashes of the classes are kept for each class loader, as long as the class loader is reachable.</p>
+ */
+@Slf4j
+public final class FragmentCache {
+    private static final String FORMAT_VERSION = "1";
+    private static final String FILE_EXTENSION = ".json";
+    private static final String JAR_PROTOCOL = "jar";
+    private static final String FILE_PROTOCOL = "file";
+    private static final ImmutableList<String> PLATFORM_PREFIXES = ImmutableList.of("java/", "javax/", "jdk/", "sun/", "com/sun/");
+    /**
+     * A class of each library generating the fragments: rocket-swagger, swagger-core, swagger-models, jackson-databind
+     * and jackson-core.
+     */
+    private static final ImmutableList<Class<?>> LIBRARIES = ImmutableList.of(
+            FragmentCache.class, ModelConverters.class, OpenAPI.class, ObjectMapper.class, JsonGenerator.class);
+    private static final ClassEntry MISSING = new ClassEntry("missing", ImmutableSet.of());
+
+    private static final String KEY_FIELD = "key";
+    private static final String DEFINITION_FIELD = "definition";
+    private static final String PATHS_FIELD = "paths";
+    private static final String COMPONENTS_FIELD = "components";
+    private static final String TAGS_FIELD = "tags";
+    private static final String OPERATION_IDS_FIELD = "operationIds";
+
+    private final Path directory;
+    private final String version;
+    private final String libraries;
+    private final ObjectMapper mapper = Json.mapper();
+    private final ConcurrentMap<ClassLoader, ConcurrentMap<String, ClassEntry>> classEntries = new MapMaker().weakKeys().makeMap();
+    private final ConcurrentMap<String, String> codeSourceHashes = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param directory The directory of the fragments, created if missing
+     */
+    public FragmentCache(Path directory) {
+        this(directory, "");
+    }
+
+    /**
+     * @param directory The directory of the fragments, created if missing
+     * @param version   The version of the configuration which can not be read from the classes, changed to read again
+     *                  all the controllers
+     */
+    public FragmentCache(Path directory, String version) {
+        this.directory = directory;
+        this.version = Objects.requireNonNull(version, "Version is mandatory !");
+        this.libraries = LIBRARIES.stream().map(this::libraryHash).collect(Collectors.joining("\n"));
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RocketSwaggerException("Unable to create the fragment cache directory " + directory, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The number of fragments loaded from the directory
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The number of fragments missing or stale in the directory
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Compute the key of the fragment of a controller.
+     *
+     * @param controller    The controller
+     * @param configuration The fingerprint of the reader configuration
+     * @return The key of the fragment
+     */
+    String key(Class<?> controller, String configuration) {
+        return Hashing.sha256().newHasher()
+                .putString(FORMAT_VERSION, StandardCharsets.UTF_8).putChar('\n')
+                .putString(libraries, StandardCharsets.UTF_8).putChar('\n')
+                .putString(version, StandardCharsets.UTF_8).putChar('\n')
+                .putString(configuration, StandardCharsets.UTF_8).putChar('\n')
+                .putString(codeHash(controller), StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+
+    /**
+     * Hash the bytecode of a class and of all the types it references, transitively.
+     *
+     * @param type The class
+     * @return The hash of the code of the class
+     */
+    String codeHash(Class<?> type) {
+        ClassLoader classLoader = Optional.ofNullable(type.getClassLoader())
+                .orElseGet(ClassLoader::getSystemClassLoader);
+        ConcurrentMap<String, ClassEntry> entries = classEntries.computeIfAbsent(classLoader, k -> new ConcurrentHashMap<>());
+        SortedMap<String, String> hashes = new TreeMap<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(type.getName().replace('.', '/'));
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            if (hashes.containsKey(name) || PLATFORM_PREFIXES.stream().anyMatch(name::startsWith)) {
+                continue;
+            }
+            ClassEntry entry = entries.computeIfAbsent(name, k -> readEntry(classLoader, name));
+            hashes.put(name, entry.hash);
+            queue.addAll(entry.references);
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hashes.forEach((name, hash) -> hasher
+                .putString(name, StandardCharsets.UTF_8).putChar('=')
+                .putString(hash, StandardCharsets.UTF_8).putChar('\n'));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @param controller The controller
+     * @param key        The current key of the fragment
+     * @return The stored fragment, empty if missing, stale or unreadable
+     */
+    Optional<ControllerFragment> load(Class<?> controller, String key) {
+        Path file = file(controller);
+        if (!Files.isRegularFile(file)) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        try {
+            JsonNode node = mapper.readTree(file.toFile());
+            if (!key.equals(node.path(KEY_FIELD).asText())) {
+                log.debug("stale fragment for {}", controller.getName());
+                missCount.increment();
+                return Optional.empty();
+            }
+            Map<String, PathItem> paths = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> pathNodes = node.path(PATHS_FIELD).fields();
+            while (pathNodes.hasNext()) {
+                Map.Entry<String, JsonNode> path = pathNodes.next();
+                paths.put(path.getKey(), mapper.treeToValue(path.getValue(), PathItem.class));
+            }
+            Set<Tag> tags = new LinkedHashSet<>();
+            for (JsonNode tag : node.path(TAGS_FIELD)) {
+                tags.add(mapper.treeToValue(tag, Tag.class));
+            }
+            Map<String, String> operationIds = new LinkedHashMap<>();
+            node.path(OPERATION_IDS_FIELD).fields()
+                    .forEachRemaining(operationId -> operationIds.put(operationId.getKey(), operationId.getValue().asText()));
+
+            ControllerFragment fragment = new ControllerFragment(controller,
+                    mapper.treeToValue(node.path(DEFINITION_FIELD), OpenAPI.class),
+                    paths,
+                    mapper.treeToValue(node.path(COMPONENTS_FIELD), Components.class),
+                    tags,
+                    OperationIdProvider.ofProvided(operationIds));
+            hitCount.increment();
+            return Optional.of(fragment);
+        } catch (IOException e) {
+            log.debug("unreadable fragment for {}: {}", controller.getName(), e.getLocalizedMessage());
+            missCount.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a fragment just read, before it is merged. A failure is logged and ignored.
+     *
+     * @param fragment The fragment of the controller
+     * @param key      The key of the fragment
+     */
+    void store(ControllerFragment fragment, String key) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put(KEY_FIELD, key);
+        node.set(DEFINITION_FIELD, mapper.valueToTree(fragment.getDefinition()));
+        node.set(PATHS_FIELD, mapper.valueToTree(fragment.getPaths()));
+        node.set(COMPONENTS_FIELD, mapper.valueToTree(fragment.getComponents()));
+        node.set(TAGS_FIELD, mapper.valueToTree(fragment.getTags()));
+        node.set(OPERATION_IDS_FIELD, mapper.valueToTree(fragment.getOperationIdProvider().getProvidedOperationIds()));
+
+        Path file = file(fragment.getController());
+        try {
+            // Written aside then moved, a concurrent reader never sees a partial fragment
+            Path temporary = Files.createTempFile(directory, fragment.getController().getName(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                mapper.writeValue(out, node);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to store the fragment of {}: {}", fragment.getController().getName(), e.getLocalizedMessage());
+        }
+    }
+
+    private Path file(Class<?> controller) {
+        return directory.resolve(controller.getName() + FILE_EXTENSION);
+    }
+
+    private ClassEntry readEntry(ClassLoader classLoader, String name) {
+        URL resource = classLoader.getResource(name + ".class");
+        if (resource == null) {
+            return MISSING;
+        }
+        try {
+            if (JAR_PROTOCOL.equals(resource.getProtocol())) {
+                URLConnection connection = resource.openConnection();
+                if (connection instanceof JarURLConnection) {
+                    URL jar = ((JarURLConnection) connection).getJarFileURL();
+                    return new ClassEntry(codeSourceHash(jar), ImmutableSet.of());
+                }
+            }
+            byte[] bytecode;
+            try (InputStream in = resource.openStream()) {
+                bytecode = ByteStreams.toByteArray(in);
+            }
+            return new ClassEntry(Hashing.sha256().hashBytes(bytecode).toString(), ClassReferences.of(bytecode));
+        } catch (IOException | RocketSwaggerException e) {
+            log.debug("unreadable class {}: {}", name, e.getLocalizedMessage());
+            return MISSING;
+        }
+    }
+
+    private String libraryHash(Class<?> library) {
+        String implementationVersion = Optional.ofNullable(library.getPackage())
+                .map(Package::getImplementationVersion)
+                .orElse("");
+        String codeSource = Optional.ofNullable(library.getProtectionDomain().getCodeSource())
+                .map(CodeSource::getLocation)
+                .map(this::codeSourceHash)
+                .orElse("");
+        return library.getName() + ":" + implementationVersion + ":" + codeSource;
+    }
+
+    /**
+     * Identify the content of a jar by its size and modification time, or of a directory by the ones of its files.
+     */
+    private String codeSourceHash(URL location) {
+        return codeSourceHashes.computeIfAbsent(location.toString(), k -> {
+            if (!FILE_PROTOCOL.equals(location.getProtocol())) {
+                return location.toString();
+            }
+            try {
+                Path path = Paths.get(location.toURI());
+                if (!Files.isDirectory(path)) {
+                    return location + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+                }
+                Hasher hasher = Hashing.sha256().newHasher();
+                try (Stream<Path> files = Files.walk(path)) {
+                    for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                        hasher.putString(path.relativize(file).toString(), StandardCharsets.UTF_8)
+                                .putLong(Files.size(file))
+                                .putLong(Files.getLastModifiedTime(file).toMillis());
+                    }
+                }
+                return location + ":" + hasher.hash();
+            } catch (IOException | URISyntaxException e) {
+                return location.toString();
+            }
+        });
+    }
+
+    private static final class ClassEntry {
+        private final String hash;
+        private final Set<String> references;
+
+        private ClassEntry(String hash, Set<String> references) {
+            this.hash = hash;
+            this.references = references;
+        }
+    }
+}
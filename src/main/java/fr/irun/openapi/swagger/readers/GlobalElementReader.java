@@ -22,6 +22,10 @@ public final class GlobalElementReader {
     private final List<Server> servers;
     private final Components components;
 
+    public GlobalElementReader() {
+        this(null);
+    }
+
     public GlobalElementReader(OpenAPI openAPI) {
         this.parameters = new ArrayList<>();
         this.securityRequirements = new ArrayList<>();
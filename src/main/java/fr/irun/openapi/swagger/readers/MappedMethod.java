@@ -0,0 +1,57 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * <p>A handler method with the route resolved by the application, as registered in a Spring handler mapping.</p>
+ * <p>The path is the full pattern, controller path included, and the media types are the combined ones of the
+ * controller and the method. A mapping matching several patterns or HTTP methods is described by one
+ * {@link MappedMethod} per pattern and HTTP method.</p>
+ */
+@Getter
+@ToString
+public final class MappedMethod {
+    /**
+     * The type of the handler bean, the controller for an annotated handler.
+     */
+    private final Class<?> handlerType;
+    private final Method method;
+    private final String path;
+    /**
+     * The HTTP method, null if the mapping matches any HTTP method.
+     */
+    private final RequestMethod requestMethod;
+    private final ImmutableList<String> consumes;
+    private final ImmutableList<String> produces;
+    /**
+     * The method mapping equivalent to the route, with the path, the HTTP method and the media types of the route.
+     */
+    @ToString.Exclude
+    private final RequestMapping requestMapping;
+
+    public MappedMethod(Class<?> handlerType, Method method, String path, RequestMethod requestMethod,
+                        Collection<String> consumes, Collection<String> produces) {
+        this.handlerType = Objects.requireNonNull(handlerType, "Handler type is mandatory !");
+        this.method = Objects.requireNonNull(method, "Method is mandatory !");
+        this.path = Objects.requireNonNull(path, "Path is mandatory !");
+        this.requestMethod = requestMethod;
+        this.consumes = ImmutableList.copyOf(consumes);
+        this.produces = ImmutableList.copyOf(produces);
+        this.requestMapping = AnnotationUtils.synthesizeAnnotation(ImmutableMap.of(
+                "path", new String[]{path},
+                "method", (requestMethod == null) ? new RequestMethod[0] : new RequestMethod[]{requestMethod},
+                "consumes", this.consumes.toArray(new String[0]),
+                "produces", this.produces.toArray(new String[0])),
+                RequestMapping.class, method);
+    }
+}
@@ -0,0 +1,168 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Hidden;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.callbacks.Callback;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.servers.Server;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.Getter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>The annotations of a controller method, resolved in a single pass.</p>
+ * <p>The descriptors are immutable and cached by declaring class, so the annotation hierarchy of a method is only
+ * walked once whatever the number of reads.</p>
+ */
+@Getter
+public final class MethodDescriptor {
+    private static final ClassValue<ConcurrentMap<Method, MethodDescriptor>> DESCRIPTORS =
+            new ClassValue<ConcurrentMap<Method, MethodDescriptor>>() {
+                @Override
+                protected ConcurrentMap<Method, MethodDescriptor> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final Method method;
+    private final Operation operation;
+    private final boolean hidden;
+    private final RequestMapping requestMapping;
+    /**
+     * The {@link JsonView} of the method, null if none or ignored by the {@link Operation}.
+     */
+    private final JsonView jsonView;
+    /**
+     * The {@link JsonView} of the parameter annotated with {@link RequestBody} if only one exists, else the
+     * {@link JsonView} of the method.
+     */
+    private final JsonView requestBodyJsonView;
+    private final ImmutableList<SecurityRequirement> securityRequirements;
+    private final ImmutableList<Server> servers;
+    private final ImmutableList<Tag> tags;
+    private final ImmutableList<ApiResponse> apiResponses;
+    private final ImmutableList<Callback> callbacks;
+    private final ImmutableList<Parameter> apiParameters;
+    private final ExternalDocumentation externalDocumentation;
+    private final RequestBody requestBody;
+    private final ImmutableList<ParameterDescriptor> parameters;
+
+    private MethodDescriptor(Method method) {
+        this.method = method;
+        this.operation = ReflectionUtils.getAnnotation(method, Operation.class);
+        this.hidden = method.getAnnotation(Hidden.class) != null;
+        this.requestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        if (operation != null && operation.ignoreJsonView()) {
+            this.jsonView = null;
+            this.requestBodyJsonView = null;
+        } else {
+            this.jsonView = ReflectionUtils.getAnnotation(method, JsonView.class);
+            this.requestBodyJsonView = (JsonView) Arrays.stream(ReflectionUtils.getParameterAnnotations(method))
+                    .filter(arr -> Arrays.stream(arr).anyMatch(annotation ->
+                            annotation.annotationType().equals(RequestBody.class)))
+                    .flatMap(Arrays::stream)
+                    .filter(annotation -> annotation.annotationType().equals(JsonView.class))
+                    .reduce((a, b) -> jsonView)
+                    .orElse(jsonView);
+        }
+        this.securityRequirements = repeatable(method, SecurityRequirement.class);
+        this.servers = repeatable(method, Server.class);
+        this.tags = repeatable(method, Tag.class);
+        this.apiResponses = repeatable(method, ApiResponse.class);
+        this.callbacks = repeatable(method, Callback.class);
+        this.apiParameters = repeatable(method, Parameter.class);
+        this.externalDocumentation = ReflectionUtils.getAnnotation(method, ExternalDocumentation.class);
+        this.requestBody = ReflectionUtils.getAnnotation(method, RequestBody.class);
+        this.parameters = Arrays.stream(method.getParameters())
+                .map(p -> new ParameterDescriptor(method, p))
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Get the descriptor of a method, resolving it on first access.
+     *
+     * @param method The method to describe
+     * @return The cached descriptor
+     */
+    public static MethodDescriptor of(Method method) {
+        return DESCRIPTORS.get(method.getDeclaringClass()).computeIfAbsent(method, MethodDescriptor::resolve);
+    }
+
+    /**
+     * @param method The method to describe
+     * @return A new descriptor, not cached
+     */
+    static MethodDescriptor resolve(Method method) {
+        return new MethodDescriptor(method);
+    }
+
+    private static <A extends Annotation> ImmutableList<A> repeatable(Method method, Class<A> annotationClass) {
+        return Optional.ofNullable(ReflectionUtils.getRepeatableAnnotations(method, annotationClass))
+                .map(ImmutableList::copyOf)
+                .orElse(ImmutableList.of());
+    }
+
+    /**
+     * The annotations and type of a method parameter.
+     */
+    @Getter
+    public static final class ParameterDescriptor {
+        private final java.lang.reflect.Parameter parameter;
+        private final Type type;
+        /**
+         * The Spring parameter annotations with a value, defaulting to the parameter name, and the {@link Parameter}.
+         */
+        private final ImmutableList<Annotation> annotations;
+        private final Parameter apiParameter;
+        private final ImmutableList<Annotation> declaredAnnotations;
+
+        private ParameterDescriptor(Method method, java.lang.reflect.Parameter parameter) {
+            this.parameter = parameter;
+            @SuppressWarnings("deprecation") final Type constructed = TypeFactory.defaultInstance()
+                    .constructType(parameter.getParameterizedType(), method.getDeclaringClass());
+            this.type = constructed;
+
+            Set<Annotation> springAnnotations = ClazzMethodReader.ANNOTATION_TYPES.stream()
+                    .map(at -> AnnotatedElementUtils.findMergedAnnotation(parameter, at))
+                    .filter(Objects::nonNull)
+                    .map(a -> {
+                        Object value = AnnotationUtils.getValue(a, "value");
+                        if (value == null || Strings.isNullOrEmpty(value.toString())) {
+                            return AnnotationUtils.synthesizeAnnotation(ImmutableMap.of("value", parameter.getName()), a.annotationType(), parameter);
+                        } else {
+                            return a;
+                        }
+                    }).collect(Collectors.toSet());
+
+            this.apiParameter = AnnotationUtils.getAnnotation(parameter, Parameter.class);
+            if (apiParameter != null) {
+                springAnnotations.add(apiParameter);
+            }
+            this.annotations = ImmutableList.copyOf(springAnnotations);
+            this.declaredAnnotations = ImmutableList.copyOf(parameter.getDeclaredAnnotations());
+        }
+    }
+}
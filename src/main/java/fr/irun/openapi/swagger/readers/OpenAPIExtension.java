@@ -8,12 +8,32 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 public interface OpenAPIExtension {
 
+    /**
+     * The methods of an extension called by the readers.
+     */
+    enum Hook {
+        EXTRACT_OPERATION_METHOD,
+        EXTRACT_PARAMETERS,
+        DECORATE_OPERATION
+    }
+
+    /**
+     * Declare the hooks really implemented by the extension. The extension is left out of the chains of the other
+     * hooks, so it must only declare the hooks where it does more than delegating to the rest of the chain.
+     *
+     * @return The implemented hooks, all of them by default
+     */
+    default Set<Hook> getHooks() {
+        return EnumSet.allOf(Hook.class);
+    }
+
     String extractOperationMethod(Method method, Iterator<OpenAPIExtension> chain);
 
     @SuppressWarnings("checkstyle:parameternumber")
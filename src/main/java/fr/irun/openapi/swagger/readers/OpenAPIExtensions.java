@@ -2,6 +2,7 @@ package fr.irun.openapi.swagger.readers;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -9,30 +10,98 @@ import java.util.ServiceLoader;
 
 @Slf4j
 public final class OpenAPIExtensions {
-    private static List<OpenAPIExtension> extensions;
+    private static final List<OpenAPIExtension> EXTENSIONS = new ExtensionList();
+    private static volatile ExtensionPipeline pipeline;
 
     private OpenAPIExtensions() {
     }
 
+    /**
+     * Each modification of the returned list compiles a new pipeline, the readers already running keep the previous
+     * one. Use {@link #setExtensions(List)} to replace several extensions at once.
+     *
+     * @return A live view of the current extensions
+     */
     public static List<OpenAPIExtension> getExtensions() {
-        return extensions;
+        return EXTENSIONS;
     }
 
-    public static void setExtensions(List<OpenAPIExtension> ext) {
-        extensions = ext;
+    /**
+     * Replace the extensions. The readers already running keep the previous pipeline.
+     *
+     * @param ext The new extensions, in the order of the chains
+     */
+    public static synchronized void setExtensions(List<OpenAPIExtension> ext) {
+        pipeline = ExtensionPipeline.of(ext);
+    }
+
+    public static ExtensionPipeline getPipeline() {
+        return pipeline;
     }
 
     public static Iterator<OpenAPIExtension> chain() {
-        return extensions.iterator();
+        return pipeline.getExtensions().iterator();
+    }
+
+    public static Iterator<OpenAPIExtension> chain(OpenAPIExtension.Hook hook) {
+        return pipeline.chain(hook);
+    }
+
+    /**
+     * The list returned by {@link #getExtensions()}, reading the current pipeline and replacing it on each write.
+     */
+    private static final class ExtensionList extends AbstractList<OpenAPIExtension> {
+        @Override
+        public OpenAPIExtension get(int index) {
+            return pipeline.getExtensions().get(index);
+        }
+
+        @Override
+        public int size() {
+            return pipeline.getExtensions().size();
+        }
+
+        @Override
+        public void add(int index, OpenAPIExtension element) {
+            synchronized (OpenAPIExtensions.class) {
+                List<OpenAPIExtension> extensions = new ArrayList<>(pipeline.getExtensions());
+                extensions.add(index, element);
+                pipeline = ExtensionPipeline.of(extensions);
+            }
+            modCount++;
+        }
+
+        @Override
+        public OpenAPIExtension set(int index, OpenAPIExtension element) {
+            synchronized (OpenAPIExtensions.class) {
+                List<OpenAPIExtension> extensions = new ArrayList<>(pipeline.getExtensions());
+                OpenAPIExtension previous = extensions.set(index, element);
+                pipeline = ExtensionPipeline.of(extensions);
+                return previous;
+            }
+        }
+
+        @Override
+        public OpenAPIExtension remove(int index) {
+            OpenAPIExtension removed;
+            synchronized (OpenAPIExtensions.class) {
+                List<OpenAPIExtension> extensions = new ArrayList<>(pipeline.getExtensions());
+                removed = extensions.remove(index);
+                pipeline = ExtensionPipeline.of(extensions);
+            }
+            modCount++;
+            return removed;
+        }
     }
 
     static {
-        extensions = new ArrayList<>();
+        List<OpenAPIExtension> extensions = new ArrayList<>();
         ServiceLoader<OpenAPIExtension> loader = ServiceLoader.load(OpenAPIExtension.class);
         for (OpenAPIExtension ext : loader) {
             log.debug("adding extension {}", ext);
             extensions.add(ext);
         }
         extensions.add(new DefaultParameterExtension());
+        pipeline = ExtensionPipeline.of(extensions);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Write the OpenAPI definition while the classes are read.</p>
+ * <p>Each path is written as soon as the last class contributing to it is read, then released. The other sections,
+ * such as the components and the tags, are written at the end. With a parallelism of 1, the memory used is then bounded
+ * by the paths of the controllers sharing a path rather than by the whole document. When the classes include
+ * {@link ReaderListener}, the paths are written once the listeners have run.</p>
+ * <p>The output holds the same content as the serialization of {@link SpringOpenApiReader#read(Set)}, the
+ * {@code paths} section just comes before the other sections.</p>
+ */
+public final class OpenAPIStreamWriter {
+    private static final String OPENAPI_FIELD = "openapi";
+    private static final String PATHS_FIELD = "paths";
+
+    private final ObjectMapper mapper;
+    private final boolean pretty;
+
+    private OpenAPIStreamWriter(ObjectMapper mapper, boolean pretty) {
+        this.mapper = mapper;
+        this.pretty = pretty;
+    }
+
+    /**
+     * @param pretty True to indent the output
+     * @return A writer producing JSON with the swagger {@link Json#mapper()}
+     */
+    public static OpenAPIStreamWriter json(boolean pretty) {
+        return new OpenAPIStreamWriter(Json.mapper(), pretty);
+    }
+
+    /**
+     * @return A writer producing YAML with the swagger {@link Yaml#mapper()}
+     */
+    public static OpenAPIStreamWriter yaml() {
+        return new OpenAPIStreamWriter(Yaml.mapper(), false);
+    }
+
+    /**
+     * Read the classes and write the definition to a stream. The stream is left open.
+     *
+     * @param reader  The configured reader
+     * @param classes The classes to read
+     * @param out     The output of the definition
+     * @return The definition read, without the paths already written
+     */
+    public OpenAPI write(SpringOpenApiReader reader, Set<Class<?>> classes, OutputStream out) {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (pretty) {
+                generator.useDefaultPrettyPrinter();
+            }
+            return write(reader, classes, generator);
+        } catch (IOException e) {
+            throw new RocketSwaggerException("Unable to write the OpenAPI definition", e);
+        }
+    }
+
+    /**
+     * Read the classes and write the definition as the next value of a generator.
+     *
+     * @param reader    The configured reader
+     * @param classes   The classes to read
+     * @param generator The generator, created by a mapper able to serialize the OpenAPI models
+     * @return The definition read, without the paths already written
+     * @throws IOException if the definition can not be written
+     */
+    public OpenAPI write(SpringOpenApiReader reader, Set<Class<?>> classes, JsonGenerator generator) throws IOException {
+        Objects.requireNonNull(reader, "Reader is mandatory !");
+        generator.writeStartObject();
+        writeField(generator, OPENAPI_FIELD, reader.getOpenAPI().getOpenapi());
+
+        boolean[] pathsStarted = {false};
+        OpenAPI openAPI;
+        try {
+            openAPI = reader.stream(classes, (path, pathItem) -> {
+                try {
+                    if (!pathsStarted[0]) {
+                        generator.writeObjectFieldStart(PATHS_FIELD);
+                        pathsStarted[0] = true;
+                    }
+                    writeField(generator, path, pathItem);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (openAPI.getPaths() != null || pathsStarted[0]) {
+            if (!pathsStarted[0]) {
+                generator.writeObjectFieldStart(PATHS_FIELD);
+            }
+            if (openAPI.getPaths() != null) {
+                for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                    writeField(generator, path.getKey(), path.getValue());
+                }
+                if (openAPI.getPaths().getExtensions() != null) {
+                    for (Map.Entry<String, Object> extension : openAPI.getPaths().getExtensions().entrySet()) {
+                        writeField(generator, extension.getKey(), extension.getValue());
+                    }
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        writeField(generator, "info", openAPI.getInfo());
+        writeField(generator, "externalDocs", openAPI.getExternalDocs());
+        writeField(generator, "servers", openAPI.getServers());
+        writeField(generator, "security", openAPI.getSecurity());
+        writeField(generator, "tags", openAPI.getTags());
+        writeField(generator, "components", openAPI.getComponents());
+        if (openAPI.getExtensions() != null) {
+            for (Map.Entry<String, Object> extension : openAPI.getExtensions().entrySet()) {
+                writeField(generator, extension.getKey(), extension.getValue());
+            }
+        }
+        generator.writeEndObject();
+        generator.flush();
+        return openAPI;
+    }
+
+    private void writeField(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(name);
+        mapper.writeValue(generator, value);
+    }
+}
@@ -1,21 +1,23 @@
 package fr.irun.openapi.swagger.readers;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import fr.irun.openapi.swagger.utils.PathTemplate;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.links.Link;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.io.File;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public final class OperationParser {
     private OperationParser() {
@@ -122,13 +124,15 @@ public final class OperationParser {
     }
 
     /**
-     * Merge multiple {@link ApiResponses}
+     * Merge multiple {@link ApiResponses}. The given responses are never modified, a response completed by the next
+     * ones is copied first.
      *
      * @param apiResponses {@link ApiResponses} to merge, First declared override the next for the same response name
      * @return The merged {@link ApiResponses}
      */
     public static ApiResponses mergeApiResponses(ApiResponses... apiResponses) {
         ApiResponses newResponses = new ApiResponses();
+        Set<String> copiedResponses = new HashSet<>();
         for (ApiResponses responses : apiResponses) {
             for (String responseName : responses.keySet()) {
                 if (!newResponses.containsKey(responseName)) {
@@ -137,16 +141,24 @@ public final class OperationParser {
                     ApiResponse newResponse = newResponses.get(responseName);
                     ApiResponse response = responses.get(responseName);
                     if (newResponse != null && StringUtils.isBlank(newResponse.get$ref())) {
+                        if (copiedResponses.add(responseName)) {
+                            newResponse = copyOf(newResponse);
+                            newResponses.put(responseName, newResponse);
+                        }
                         Content newContent = newResponse.getContent();
                         Content content = response.getContent();
+                        if (content == null) {
+                            continue;
+                        }
                         if (newContent == null) {
-                            newResponse.content(content);
+                            newResponse.content(copyOf(content));
                         } else {
                             for (String key : content.keySet()) {
                                 if (newContent.get(key) == null) {
                                     newContent.addMediaType(key, content.get(key));
                                 } else if (newContent.get(key).getSchema() == null) {
-                                    newContent.get(key).setSchema(content.get(key).getSchema());
+                                    newContent.addMediaType(key, copyOf(newContent.get(key))
+                                            .schema(content.get(key).getSchema()));
                                 }
                             }
                         }
@@ -157,10 +169,41 @@ public final class OperationParser {
         return newResponses;
     }
 
-    public static boolean isSamePath(String path, String parentPath) {
-        Path left = Optional.of(File.separator + path).map(Paths::get).orElse(Paths.get(""));
-        Path right = Optional.of(File.separator + parentPath).map(Paths::get).orElse(Paths.get(""));
+    /**
+     * Copy a response down to its media types, the maps included. The schemas, examples and headers are shared.
+     */
+    static ApiResponse copyOf(ApiResponse response) {
+        ApiResponse copy = new ApiResponse()
+                .description(response.getDescription())
+                .headers(copyOf(response.getHeaders()))
+                .content(Optional.ofNullable(response.getContent()).map(OperationParser::copyOf).orElse(null));
+        copy.setLinks(copyOf(response.getLinks()));
+        copy.setExtensions(copyOf(response.getExtensions()));
+        copy.set$ref(response.get$ref());
+        return copy;
+    }
 
-        return left.toAbsolutePath().equals(right.toAbsolutePath());
+    private static Content copyOf(Content content) {
+        Content copy = new Content();
+        content.forEach((name, mediaType) -> copy.addMediaType(name, copyOf(mediaType)));
+        return copy;
+    }
+
+    private static MediaType copyOf(MediaType mediaType) {
+        MediaType copy = new MediaType()
+                .schema(mediaType.getSchema())
+                .examples(copyOf(mediaType.getExamples()))
+                .encoding(copyOf(mediaType.getEncoding()));
+        copy.setExample(mediaType.getExample());
+        copy.setExtensions(copyOf(mediaType.getExtensions()));
+        return copy;
+    }
+
+    private static <T> Map<String, T> copyOf(Map<String, T> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
+    }
+
+    public static boolean isSamePath(String path, String parentPath) {
+        return PathTemplate.isSamePath(path, parentPath);
     }
 }
@@ -0,0 +1,162 @@
+package fr.irun.openapi.swagger.readers;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Generate an OpenAPI definition once, in the background, and share it as a {@link Mono}.</p>
+ * <p>The generation runs on a {@link Scheduler} able to block, {@link Schedulers#boundedElastic()} by default, so it
+ * never blocks the caller. It starts on {@link #start()}, typically once the application is started, or on the first
+ * subscription to {@link #get()}. All the subscribers share the same generation and its result, value or error. The
+ * generation is interrupted by {@link #cancel()} or when it exceeds its time budget.</p>
+ */
+@Slf4j
+public final class ReactiveOpenApiReader {
+    /**
+     * The readiness of the definition.
+     */
+    public enum State {
+        /**
+         * The generation is not started.
+         */
+        PENDING,
+        /**
+         * The generation is running.
+         */
+        GENERATING,
+        /**
+         * The definition is generated.
+         */
+        READY,
+        /**
+         * The generation failed or exceeded its time budget.
+         */
+        FAILED,
+        /**
+         * The generation was cancelled.
+         */
+        CANCELLED;
+
+        public boolean isTerminated() {
+            return this != PENDING && this != GENERATING;
+        }
+    }
+
+    private final Mono<OpenAPI> generation;
+    private final MonoProcessor<OpenAPI> result = MonoProcessor.create();
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+    /**
+     * @param generation The generation of the definition, blocking
+     * @param scheduler  The scheduler running the generation
+     * @param timeBudget The maximum duration of the generation, null for no limit
+     */
+    public ReactiveOpenApiReader(Callable<OpenAPI> generation, Scheduler scheduler, Duration timeBudget) {
+        Objects.requireNonNull(generation, "Generation is mandatory !");
+        Objects.requireNonNull(scheduler, "Scheduler is mandatory !");
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Mono<OpenAPI> generated = Mono.fromCallable(() -> {
+            try {
+                return generation.call();
+            } catch (Exception e) {
+                if (interrupted.get()) {
+                    // Nobody is listening anymore, the error would only be dropped
+                    log.debug("OpenAPI generation interrupted: {}", e.toString());
+                    return null;
+                }
+                throw e;
+            }
+        })
+                .doOnCancel(() -> interrupted.set(true))
+                .subscribeOn(scheduler);
+        if (timeBudget != null) {
+            generated = generated.timeout(timeBudget);
+        }
+        this.generation = generated
+                .doOnSuccess(openAPI -> terminate(State.READY))
+                .doOnError(e -> {
+                    log.error("Unable to generate the OpenAPI definition", e);
+                    terminate(State.FAILED);
+                });
+    }
+
+    /**
+     * Read the classes on {@link Schedulers#boundedElastic()}. A cancelled or timed out generation stops before the
+     * next class or method and leaves the reader unchanged.
+     *
+     * @param reader     The configured reader, not used by anything else
+     * @param classes    The classes to read
+     * @param timeBudget The maximum duration of the generation, null for no limit
+     * @return The reader, not started
+     */
+    public static ReactiveOpenApiReader of(SpringOpenApiReader reader, Set<Class<?>> classes, Duration timeBudget) {
+        Objects.requireNonNull(reader, "Reader is mandatory !");
+        return new ReactiveOpenApiReader(() -> reader.read(classes), Schedulers.boundedElastic(), timeBudget);
+    }
+
+    /**
+     * Start the generation in the background, if not already started.
+     *
+     * @return This reader
+     */
+    public ReactiveOpenApiReader start() {
+        if (state.compareAndSet(State.PENDING, State.GENERATING)) {
+            generation.subscribe(result);
+        }
+        return this;
+    }
+
+    /**
+     * Get the definition, starting the generation if needed. The result is shared by all the subscribers, a
+     * subscriber cancelling its subscription does not cancel the generation.
+     *
+     * @return The definition, or the error of the generation
+     */
+    public Mono<OpenAPI> get() {
+        return Mono.defer(() -> {
+            start();
+            return result;
+        });
+    }
+
+    /**
+     * Cancel the generation if not terminated. The running generation is interrupted and the subscribers receive a
+     * {@link java.util.concurrent.CancellationException}.
+     */
+    public void cancel() {
+        State current = state.get();
+        while (!current.isTerminated()) {
+            if (state.compareAndSet(current, State.CANCELLED)) {
+                result.dispose();
+                return;
+            }
+            current = state.get();
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * @return True if the definition is generated
+     */
+    public boolean isReady() {
+        return state.get() == State.READY;
+    }
+
+    private void terminate(State terminated) {
+        state.compareAndSet(State.GENERATING, terminated);
+    }
+}
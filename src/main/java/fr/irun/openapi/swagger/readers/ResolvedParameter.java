@@ -1,19 +1,81 @@
 package fr.irun.openapi.swagger.readers;
 
+import com.google.common.collect.ImmutableList;
 import io.swagger.v3.oas.models.parameters.Parameter;
-import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 
-import java.util.Collections;
 import java.util.List;
 
+/**
+ * <p>The parameters resolved by an {@link OpenAPIExtension} from a method parameter.</p>
+ * <p>Instances are immutable and can be shared between threads or memoized. The lists hold the same
+ * {@link Parameter} instances as the ones given at creation.</p>
+ */
 @Getter
-@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
 public final class ResolvedParameter {
-    public static final ResolvedParameter EMPTY = new ResolvedParameter(
-            Collections.emptyList(), null, Collections.emptyList());
+    public static final ResolvedParameter EMPTY = new ResolvedParameter(ImmutableList.of(), null, ImmutableList.of());
 
-    private final List<Parameter> parameters;
+    private final ImmutableList<Parameter> parameters;
     private final Parameter requestBody;
-    private final List<Parameter> formParameters;
+    private final ImmutableList<Parameter> formParameters;
+
+    public ResolvedParameter(List<Parameter> parameters, Parameter requestBody, List<Parameter> formParameters) {
+        this.parameters = ImmutableList.copyOf(parameters);
+        this.requestBody = requestBody;
+        this.formParameters = ImmutableList.copyOf(formParameters);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEmpty() {
+        return parameters.isEmpty() && requestBody == null && formParameters.isEmpty();
+    }
+
+    public static final class Builder {
+        private final ImmutableList.Builder<Parameter> parameters = ImmutableList.builder();
+        private final ImmutableList.Builder<Parameter> formParameters = ImmutableList.builder();
+        private Parameter requestBody;
+
+        private Builder() {
+        }
+
+        public Builder parameter(Parameter parameter) {
+            parameters.add(parameter);
+            return this;
+        }
+
+        public Builder parameters(Iterable<Parameter> parameters) {
+            this.parameters.addAll(parameters);
+            return this;
+        }
+
+        public Builder requestBody(Parameter requestBody) {
+            this.requestBody = requestBody;
+            return this;
+        }
+
+        public Builder formParameter(Parameter formParameter) {
+            formParameters.add(formParameter);
+            return this;
+        }
+
+        public Builder formParameters(Iterable<Parameter> formParameters) {
+            this.formParameters.addAll(formParameters);
+            return this;
+        }
+
+        /**
+         * @return The built {@link ResolvedParameter}, {@link ResolvedParameter#EMPTY} if nothing was resolved
+         */
+        public ResolvedParameter build() {
+            ResolvedParameter resolved = new ResolvedParameter(parameters.build(), requestBody, formParameters.build());
+            return resolved.isEmpty() ? EMPTY : resolved;
+        }
+    }
 }
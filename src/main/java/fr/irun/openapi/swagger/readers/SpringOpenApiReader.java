@@ -1,22 +1,32 @@
 package fr.irun.openapi.swagger.readers;
 
-import com.google.common.collect.Iterators;
+import com.google.common.base.Throwables;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import fr.irun.openapi.swagger.utils.ClassOrdering;
+import fr.irun.openapi.swagger.utils.ComponentsRegistry;
+import fr.irun.openapi.swagger.utils.IgnoredRoutes;
 import fr.irun.openapi.swagger.utils.OpenAPIComponentsHelper;
-import fr.irun.openapi.swagger.utils.OpenApiHttpMethod;
+import fr.irun.openapi.swagger.utils.OpenAPICopies;
 import fr.irun.openapi.swagger.utils.OperationIdProvider;
+import fr.irun.openapi.swagger.utils.PathTemplate;
 import fr.irun.openapi.swagger.utils.ReaderUtils;
+import fr.irun.openapi.swagger.utils.ResolvedSchemaCache;
+import fr.irun.openapi.swagger.utils.TagRegistry;
+import fr.irun.openapi.swagger.utils.WrapperTypeRegistry;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
-import io.swagger.v3.oas.integration.ContextUtils;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiReader;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -27,17 +37,29 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 public class SpringOpenApiReader implements OpenApiReader {
@@ -47,6 +69,15 @@ public class SpringOpenApiReader implements OpenApiReader {
 
     private OpenAPIConfiguration config;
     private OpenAPI openAPI;
+    private final ResolvedSchemaCache resolvedSchemaCache = new ResolvedSchemaCache();
+    private int parallelism = 1;
+    private ComponentsRegistry componentsRegistry;
+    private TagRegistry.MergePolicy tagMergePolicy = TagRegistry.MergePolicy.KEEP_ALL;
+    private TagRegistry tagRegistry;
+    private List<Tag> publishedTags;
+    private boolean ignoredRouteWildcards;
+    private IgnoredRoutes ignoredRoutes = IgnoredRoutes.NONE;
+    private FragmentCache fragmentCache;
 
     public SpringOpenApiReader() {
         this.openAPI = new OpenAPI();
@@ -68,6 +99,15 @@ public class SpringOpenApiReader implements OpenApiReader {
         return openAPI;
     }
 
+    /**
+     * Get the cache of the schemas resolved by this reader, with its hit and miss counters.
+     *
+     * @return The cache of the resolved schemas
+     */
+    public ResolvedSchemaCache getResolvedSchemaCache() {
+        return resolvedSchemaCache;
+    }
+
     /**
      * Scans a single class for Swagger annotations - does not invoke ReaderListeners
      *
@@ -89,18 +129,28 @@ public class SpringOpenApiReader implements OpenApiReader {
      */
     public OpenAPI read(Set<Class<?>> classes) {
         log.debug("read multiple classes");
+        return readClasses(classes, null);
+    }
+
+    /**
+     * Read a set of classes as {@link #read(Set)}, handing each path to the consumer as soon as no later class can
+     * contribute to it. When the classes include {@link ReaderListener}, the paths are handed over once the listeners
+     * have run, so they can see and rewrite all the paths. The paths handed over are removed from the current
+     * {@link OpenAPI}. The paths of the base document and the ones added by the listeners are left in the
+     * {@link OpenAPI}.
+     *
+     * @param classes      a set of classes to scan
+     * @param pathConsumer The consumer of the complete paths, in the order they are completed
+     * @return the generated OpenAPI definition, without the paths handed over
+     */
+    OpenAPI stream(Set<Class<?>> classes, BiConsumer<String, PathItem> pathConsumer) {
+        log.debug("stream multiple classes");
+        return readClasses(classes, Objects.requireNonNull(pathConsumer, "Path consumer is mandatory !"));
+    }
+
+    private OpenAPI readClasses(Set<Class<?>> classes, BiConsumer<String, PathItem> pathConsumer) {
         log.debug("classes: {}", classes);
-        Set<Class<?>> sortedClasses = new TreeSet<>((class1, class2) -> {
-            if (class1.equals(class2)) {
-                return 0;
-            } else if (class1.isAssignableFrom(class2)) {
-                return -1;
-            } else if (class2.isAssignableFrom(class1)) {
-                return 1;
-            }
-            return class1.getName().compareTo(class2.getName());
-        });
-        sortedClasses.addAll(classes);
+        List<Class<?>> sortedClasses = ClassOrdering.supertypesFirst(classes);
 
         Map<Class<?>, ReaderListener> listeners = new HashMap<>();
 
@@ -122,9 +172,17 @@ public class SpringOpenApiReader implements OpenApiReader {
             }
         }
 
-        for (Class<?> cls : sortedClasses) {
-            read(cls, resolveApplicationPath());
-        }
+        String applicationPath = resolveApplicationPath();
+        ExtensionPipeline extensionPipeline = OpenAPIExtensions.getPipeline();
+        PathStream pathStream = (pathConsumer == null) ? null : new PathStream(sortedClasses, applicationPath, pathConsumer);
+        String configuration = (fragmentCache == null) ? null : configurationFingerprint(applicationPath, extensionPipeline);
+        // The listeners may rewrite any path, nothing is handed over before they run
+        boolean bufferedPaths = !listeners.isEmpty();
+        readAll(sortedClasses.stream()
+                .<Callable<Optional<ControllerFragment>>>map(cls ->
+                        () -> readCachedFragment(cls, applicationPath, extensionPipeline, configuration))
+                .collect(Collectors.toList()), bufferedPaths ? null : pathStream);
+        publishTags();
 
         for (ReaderListener listener : listeners.values()) {
             try {
@@ -133,19 +191,196 @@ public class SpringOpenApiReader implements OpenApiReader {
                 log.error("Unexpected error invoking afterScan listener [" + listener.getClass().getName() + "]", e);
             }
         }
+        if (pathStream != null && bufferedPaths) {
+            pathStream.completeAll();
+        }
         return openAPI;
     }
 
+    /**
+     * Read the classes declaring the handler methods registered in a Spring handler mapping, with the routes resolved
+     * by Spring instead of the mapping annotations. The handler methods registered programmatically are read as the
+     * annotated ones. The {@link ReaderListener} are not invoked.
+     *
+     * @param mappedMethods The handler methods with their routes
+     * @return the generated OpenAPI definition
+     */
+    public OpenAPI readMappedMethods(Collection<MappedMethod> mappedMethods) {
+        log.debug("read mapped methods");
+        Map<Class<?>, List<MappedMethod>> methodsByHandler = mappedMethods.stream()
+                .collect(Collectors.groupingBy(MappedMethod::getHandlerType, LinkedHashMap::new, Collectors.toList()));
+
+        String applicationPath = resolveApplicationPath();
+        ExtensionPipeline extensionPipeline = OpenAPIExtensions.getPipeline();
+        List<Callable<Optional<ControllerFragment>>> tasks = new ArrayList<>();
+        for (Class<?> cls : ClassOrdering.supertypesFirst(methodsByHandler.keySet())) {
+            List<MappedMethod> methods = new ArrayList<>(methodsByHandler.get(cls));
+            methods.sort(mappedMethodOrder(cls));
+            tasks.add(() -> readFragment(cls, applicationPath, extensionPipeline, methodReader -> {
+                Map<String, PathItem> paths = new LinkedHashMap<>();
+                for (MappedMethod method : methods) {
+                    checkInterrupted();
+                    methodReader.read(method)
+                            .ifPresent(path -> ControllerFragment.mergePathItem(paths, path.getKey(), path.getValue()));
+                }
+                return paths;
+            }));
+        }
+        readAll(tasks, null);
+        publishTags();
+        return openAPI;
+    }
+
+    /**
+     * Sort the mapped methods of a class as the methods read by {@link #read(Set)}, the methods which would not be read
+     * from the class come last. The handler mappings give no guaranty on the order of the methods.
+     */
+    private static Comparator<MappedMethod> mappedMethodOrder(Class<?> cls) {
+        Map<Method, Integer> candidateIndexes = new HashMap<>();
+        for (Method candidate : ControllerMethodIndex.of(cls).getCandidates()) {
+            candidateIndexes.putIfAbsent(candidate, candidateIndexes.size());
+        }
+        return Comparator.<MappedMethod>comparingInt(m -> candidateIndexes.getOrDefault(m.getMethod(), Integer.MAX_VALUE))
+                .thenComparing(m -> m.getMethod().toGenericString())
+                .thenComparing(MappedMethod::getPath)
+                .thenComparing(MappedMethod::getRequestMethod, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Read the fragments, sequentially or in parallel, and merge them in the order of the tasks. The reading stops
+     * with a {@link CancellationException} as soon as the thread is interrupted. The current {@link OpenAPI} is then
+     * unchanged, unless the paths are streamed sequentially: they are merged and handed over as soon as read.
+     */
+    private void readAll(List<Callable<Optional<ControllerFragment>>> tasks, PathStream pathStream) {
+        if (parallelism == 1 && pathStream != null) {
+            for (int i = 0; i < tasks.size(); i++) {
+                mergeRead(call(tasks.get(i)), i, pathStream);
+            }
+            return;
+        }
+        List<Optional<ControllerFragment>> fragments = (parallelism > 1)
+                ? readInParallel(tasks)
+                : tasks.stream().map(SpringOpenApiReader::call).collect(Collectors.toList());
+        for (int i = 0; i < fragments.size(); i++) {
+            mergeRead(fragments.get(i), i, pathStream);
+        }
+    }
+
+    private static Optional<ControllerFragment> call(Callable<Optional<ControllerFragment>> task) {
+        checkInterrupted();
+        try {
+            return task.call();
+        } catch (Exception e) {
+            Throwables.throwIfUnchecked(e);
+            throw new RocketSwaggerException("Unable to read classes", e);
+        }
+    }
+
+    /**
+     * Read the fragments of the classes on a dedicated {@link ForkJoinPool}, in the order of the tasks. The result is
+     * the same as reading the classes one after the other. The pool is interrupted with the calling thread.
+     */
+    private List<Optional<ControllerFragment>> readInParallel(List<Callable<Optional<ControllerFragment>>> tasks) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<Optional<ControllerFragment>>> futures = tasks.stream()
+                    .map(task -> pool.submit(() -> call(task)))
+                    .collect(Collectors.toList());
+            List<Optional<ControllerFragment>> fragments = new ArrayList<>(futures.size());
+            for (Future<Optional<ControllerFragment>> future : futures) {
+                fragments.add(future.get());
+            }
+            return fragments;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while reading classes");
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RocketSwaggerException("Unable to read classes", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * @throws CancellationException if the current thread is interrupted, without clearing its interrupted status
+     */
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Interrupted while reading classes");
+        }
+    }
+
+    /**
+     * Set the number of threads used to read the classes in {@link #read(Set)}. With 1, the default, the classes are
+     * read sequentially on the calling thread. Whatever the parallelism, the generated definition is the same.
+     *
+     * @param parallelism The number of threads reading the classes
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the cache of the fragments read from each class by {@link #read(Set)}. The classes unchanged since the
+     * previous read, with the same configuration, are loaded from the cache instead of being read again. The
+     * generated definition is the same. Disabled by default.
+     *
+     * @param fragmentCache The cache of the fragments, null to disable the cache
+     */
+    public void setFragmentCache(FragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+
+    public FragmentCache getFragmentCache() {
+        return fragmentCache;
+    }
+
+    /**
+     * Set how the global tags with the same name but different contents are merged. By default, all the distinct
+     * tags are kept.
+     *
+     * @param tagMergePolicy The policy applied to the tags with the same name
+     */
+    public void setTagMergePolicy(TagRegistry.MergePolicy tagMergePolicy) {
+        this.tagMergePolicy = Objects.requireNonNull(tagMergePolicy, "Tag merge policy is mandatory !");
+        this.tagRegistry = null;
+    }
+
+    /**
+     * Enable the wildcards in the ignored routes of the configuration: a {@value IgnoredRoutes#WILDCARD} segment of a
+     * route matches any single segment of the operation paths. Disabled by default.
+     *
+     * @param ignoredRouteWildcards True to enable the wildcards
+     */
+    public void setIgnoredRouteWildcards(boolean ignoredRouteWildcards) {
+        this.ignoredRouteWildcards = ignoredRouteWildcards;
+        compileIgnoredRoutes();
+    }
+
+    private void compileIgnoredRoutes() {
+        this.ignoredRoutes = Optional.ofNullable(config)
+                .map(OpenAPIConfiguration::getIgnoredRoutes)
+                .map(routes -> IgnoredRoutes.compile(routes, ignoredRouteWildcards))
+                .orElse(IgnoredRoutes.NONE);
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
-            this.config = ContextUtils.deepCopy(openApiConfiguration);
+            this.config = OpenAPICopies.copyOf(openApiConfiguration);
             if (openApiConfiguration.getOpenAPI() != null) {
                 this.openAPI = this.config.getOpenAPI();
+                this.componentsRegistry = null;
+                this.tagRegistry = null;
             }
         } else {
             this.config = new SwaggerConfiguration();
         }
+        compileIgnoredRoutes();
     }
 
     public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
@@ -159,6 +394,38 @@ public class SpringOpenApiReader implements OpenApiReader {
     }
 
     public OpenAPI read(Class<?> cls, String parentPath) {
+        readFragment(cls, parentPath, OpenAPIExtensions.getPipeline())
+                .ifPresent(fragment -> merge(fragment, new OperationIdProvider().load(openAPI)));
+        publishTags();
+        return openAPI;
+    }
+
+    /**
+     * Read a single class without modifying the current {@link OpenAPI}. The fragments can be read concurrently but
+     * must be merged in the order of the classes.
+     *
+     * @param cls               The {@code Class} object to analyze
+     * @param parentPath        The path of the application
+     * @param extensionPipeline The extensions used for the whole read
+     * @return The fragment read from the class, empty if the class is hidden
+     */
+    private Optional<ControllerFragment> readFragment(Class<?> cls, String parentPath, ExtensionPipeline extensionPipeline) {
+        return readFragment(cls, parentPath, extensionPipeline, methodReader -> {
+            Map<String, PathItem> paths = new LinkedHashMap<>();
+            for (Method method : ControllerMethodIndex.of(cls).getCandidates()) {
+                checkInterrupted();
+                methodReader.read(method)
+                        .ifPresent(path -> ControllerFragment.mergePathItem(paths, path.getKey(), path.getValue()));
+            }
+            return paths;
+        });
+    }
+
+    /**
+     * @param methodsReader Read the paths of the class with the reader of its methods
+     */
+    private Optional<ControllerFragment> readFragment(Class<?> cls, String parentPath, ExtensionPipeline extensionPipeline,
+                                                      Function<ClazzMethodReader, Map<String, PathItem>> methodsReader) {
 
         log.debug("read class {}, parentPath: {}...", cls, parentPath);
 
@@ -178,12 +445,12 @@ public class SpringOpenApiReader implements OpenApiReader {
         final RequestMapping apiRequestMapping = requestMappingAnnotation;
 
         if (hidden != null) {
-            return openAPI;
+            return Optional.empty();
         }
 
-        readOpenAPIDefinition(cls);
+        OpenAPI definition = readOpenAPIDefinition(cls);
 
-        final GlobalElementReader globalElementReader = new GlobalElementReader(openAPI);
+        final GlobalElementReader globalElementReader = new GlobalElementReader();
 
         OpenAPIComponentsReader.readSecuritySchemes(cls)
                 .forEach(globalElementReader.getComponents()::addSecuritySchemes);
@@ -205,99 +472,267 @@ public class SpringOpenApiReader implements OpenApiReader {
 
         // look for constructor-level annotated properties
         globalElementReader.getParameters().addAll(
-                ReaderUtils.collectConstructorParameters(cls, globalElementReader.getComponents(), apiRequestMapping, null));
+                ReaderUtils.collectConstructorParameters(
+                        cls, globalElementReader.getComponents(), apiRequestMapping, null, extensionPipeline));
 
         // look for field-level annotated properties
         globalElementReader.getParameters().addAll(
-                ReaderUtils.collectFieldParameters(cls, globalElementReader.getComponents(), apiRequestMapping, null));
+                ReaderUtils.collectFieldParameters(
+                        cls, globalElementReader.getComponents(), apiRequestMapping, null, extensionPipeline));
 
-        OperationIdProvider operationIdProvider = new OperationIdProvider().load(openAPI);
-        OperationReader operationReader = new OperationReader(operationIdProvider, globalElementReader, Iterators.getLast(OpenAPIExtensions.chain()));
+        // OperationIds are provided as if no other class was read, they are replayed on merge
+        OperationIdProvider operationIdProvider = new OperationIdProvider();
+        OperationReader operationReader = new OperationReader(operationIdProvider, globalElementReader, extensionPipeline.getLast());
         CallbackReader callbackReader = new CallbackReader(operationReader);
         ClazzMethodReader clazzMethodReader = new ClazzMethodReader(
                 config.isReadAllResources(),
-                config.getIgnoredRoutes() != null ? config.getIgnoredRoutes() : Collections.emptyList(),
-                globalElementReader,
+                ignoredRoutes,
+                globalElementReader, new ControllerContext(globalElementReader),
                 callbackReader, operationReader, operationIdProvider,
-                Iterators.getLast(OpenAPIExtensions.chain()), apiRequestMapping, parentPath
+                extensionPipeline, resolvedSchemaCache, apiRequestMapping, parentPath
         );
         // iterate class methods
-        Method[] methods = cls.getMethods();
-        for (Method method : methods) {
-            Optional<Map.Entry<String, PathItem>> oPathItem = clazzMethodReader.read(method);
-            oPathItem.ifPresent(path -> {
-                PathItem originalPathItem;
-                if (openAPI.getPaths() != null && openAPI.getPaths().get(path.getKey()) != null) {
-                    originalPathItem = openAPI.getPaths().get(path.getKey());
-                    for (OpenApiHttpMethod value : OpenApiHttpMethod.values()) {
-                        Optional.ofNullable(value.pathItemGetter.apply(path.getValue()))
-                                .ifPresent(o -> value.pathItemSetter.apply(originalPathItem, o));
-                    }
-                } else {
-                    originalPathItem = path.getValue();
-                }
-                openAPI.path(path.getKey(), originalPathItem);
-            });
+        Map<String, PathItem> paths = methodsReader.apply(clazzMethodReader);
+
+        return Optional.of(new ControllerFragment(cls, definition, paths,
+                globalElementReader.getComponents(), globalElementReader.getTags(), operationIdProvider));
+    }
 
+    /**
+     * Load the fragment of a class from the {@link FragmentCache}, if enabled and up to date, else read and store it.
+     */
+    private Optional<ControllerFragment> readCachedFragment(Class<?> cls, String parentPath, ExtensionPipeline extensionPipeline,
+                                                            String configuration) {
+        if (fragmentCache == null) {
+            return readFragment(cls, parentPath, extensionPipeline);
+        }
+        String key = fragmentCache.key(cls, configuration);
+        Optional<ControllerFragment> cached = fragmentCache.load(cls, key);
+        if (cached.isPresent()) {
+            return cached;
         }
+        Optional<ControllerFragment> fragment = readFragment(cls, parentPath, extensionPipeline);
+        fragment.ifPresent(f -> fragmentCache.store(f, key));
+        return fragment;
+    }
 
-        final Components components = globalElementReader.getComponents();
-        // if no components object is defined in openApi instance passed by client, set openAPI.components to resolved components (if not empty)
-        if (!OpenAPIComponentsHelper.isNullOrEmpty((components))) {
-            components.getSchemas().forEach((key, schema) -> {
-                if (Objects.nonNull(schema) && Objects.nonNull(schema.getExample())) {
-                    components.addExamples(key, new Example().value(schema.getExample()));
-                }
-            });
-            Components mergedComponents = OpenAPIComponentsHelper.mergeAllComponents(openAPI.getComponents(), components);
-            if (!OpenAPIComponentsHelper.isNullOrEmpty(mergedComponents)) {
-                openAPI.setComponents(mergedComponents);
+    /**
+     * Describe everything, except the classes, which changes the fragment read from a class. The extensions and the
+     * converters are described by their code, their settings are left to the version of the {@link FragmentCache}.
+     */
+    private String configurationFingerprint(String applicationPath, ExtensionPipeline extensionPipeline) {
+        return String.join("\n",
+                "readAllResources=" + config.isReadAllResources(),
+                "ignoredRoutes=" + Optional.ofNullable(config.getIgnoredRoutes()).map(TreeSet::new).orElseGet(TreeSet::new),
+                "ignoredRouteWildcards=" + ignoredRouteWildcards,
+                "applicationPath=" + applicationPath,
+                "extensions=" + extensionPipeline.getExtensions().stream()
+                        .map(e -> e.getClass().getName() + "@" + fragmentCache.codeHash(e.getClass()))
+                        .collect(Collectors.toList()),
+                "converters=" + ModelConverters.getInstance().getConverters().stream()
+                        .map(c -> c.getClass().getName() + "@" + fragmentCache.codeHash(c.getClass()))
+                        .collect(Collectors.toList()),
+                "wrapperTypes=" + new TreeMap<>(WrapperTypeRegistry.getWrapperTypes()));
+    }
+
+    /**
+     * Merge the fragment of the class at the given index, if any, then hand over the paths completed by the class.
+     */
+    private void mergeRead(Optional<ControllerFragment> fragment, int index, PathStream pathStream) {
+        if (pathStream == null) {
+            fragment.ifPresent(f -> merge(f, new OperationIdProvider().load(openAPI)));
+        } else {
+            fragment.ifPresent(f -> merge(f, pathStream.usedOperationIds));
+            pathStream.complete(index);
+        }
+    }
+
+    /**
+     * Merge the fragment of a class into the current {@link OpenAPI}.
+     *
+     * @param fragment         The fragment read from the class
+     * @param usedOperationIds The provider holding the OperationIds of the previous classes
+     */
+    private void merge(ControllerFragment fragment, OperationIdProvider usedOperationIds) {
+        log.debug("merge class {}...", fragment.getController());
+
+        applyOpenAPIDefinition(fragment.getDefinition());
+
+        fragment.renameOperationIds(fragment.getOperationIdProvider().replay(usedOperationIds));
+        fragment.getPaths().forEach((path, pathItem) -> {
+            if (openAPI.getPaths() == null) {
+                openAPI.setPaths(new Paths());
             }
+            ControllerFragment.mergePathItem(openAPI.getPaths(), path, pathItem);
+        });
+
+        // if no components object is defined in openApi instance passed by client, set openAPI.components to resolved components (if not empty)
+        ComponentsRegistry registry = componentsRegistry();
+        addSchemaExamples(registry, registry.merge(fragment.getComponents()).getSchemas());
+        if (openAPI.getComponents() == null && !registry.isEmpty()) {
+            openAPI.setComponents(registry.getComponents());
         }
 
         // add tags from class to definition tags
-        List<Tag> globalTagsSection = Stream.concat(globalElementReader.getTags().stream(),
-                Optional.ofNullable(openAPI.getTags()).map(List::stream).orElse(Stream.empty()))
-                .distinct()
-                .sorted(Comparator.comparing(Tag::getName))
-                .collect(Collectors.toList());
-        if (!globalTagsSection.isEmpty()) {
-            openAPI.tags(globalTagsSection);
+        tagRegistry().addAll(fragment.getTags());
+    }
+
+    /**
+     * Get the registry accumulating the components of the current {@link OpenAPI}. A new registry is created when the
+     * components were replaced since the last merge.
+     */
+    private ComponentsRegistry componentsRegistry() {
+        Components current = openAPI.getComponents();
+        boolean stale = (componentsRegistry == null)
+                || ((current == null) ? !componentsRegistry.isEmpty() : current != componentsRegistry.getComponents());
+        if (stale) {
+            componentsRegistry = new ComponentsRegistry(Optional.ofNullable(current).orElseGet(Components::new));
+            addSchemaExamples(componentsRegistry, componentsRegistry.getComponents().getSchemas());
         }
+        return componentsRegistry;
+    }
 
-        return openAPI;
+    /**
+     * Get the registry accumulating the tags of the current {@link OpenAPI}. A new registry is created from the tags of
+     * the {@link OpenAPI} when they were replaced or modified since the last publication.
+     */
+    private TagRegistry tagRegistry() {
+        if (tagRegistry == null || !Objects.equals(openAPI.getTags(), publishedTags)) {
+            tagRegistry = new TagRegistry(tagMergePolicy);
+            tagRegistry.addAll(openAPI.getTags());
+            publishedTags = (openAPI.getTags() == null) ? null : new ArrayList<>(openAPI.getTags());
+        }
+        return tagRegistry;
+    }
+
+    /**
+     * Set the sorted global tags section from the tags registered since the last publication. A copy of the section is
+     * kept to detect the changes made to the {@link OpenAPI} between two reads.
+     */
+    private void publishTags() {
+        if (tagRegistry == null || tagRegistry.isEmpty()) {
+            return;
+        }
+        publishedTags = new ArrayList<>(tagRegistry.getTags());
+        openAPI.tags(new ArrayList<>(publishedTags));
     }
 
-    private void readOpenAPIDefinition(Class<?> cls) {
+    @SuppressWarnings("rawtypes")
+    private static void addSchemaExamples(ComponentsRegistry registry, Map<String, Schema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        Map<String, Example> examples = new LinkedHashMap<>();
+        schemas.forEach((key, schema) -> {
+            if (Objects.nonNull(schema) && Objects.nonNull(schema.getExample())) {
+                examples.put(key, new Example().value(schema.getExample()));
+            }
+        });
+        registry.merge(OpenAPIComponentsHelper.EXAMPLES, examples);
+    }
+
+    private static OpenAPI readOpenAPIDefinition(Class<?> cls) {
         OpenAPIDefinition openAPIDefinition = ReflectionUtils.getAnnotation(cls, OpenAPIDefinition.class);
+        OpenAPI definition = new OpenAPI();
 
         if (openAPIDefinition == null) {
-            return;
+            return definition;
         }
 
-        AnnotationsUtils.getInfo(openAPIDefinition.info()).ifPresent(openAPI::setInfo);
+        AnnotationsUtils.getInfo(openAPIDefinition.info()).ifPresent(definition::setInfo);
 
         // OpenApiDefinition security requirements
         SecurityParser.getSecurityRequirements(openAPIDefinition.security())
-                .ifPresent(openAPI::setSecurity);
+                .ifPresent(definition::setSecurity);
         //
         // OpenApiDefinition external docs
         AnnotationsUtils
                 .getExternalDocumentation(openAPIDefinition.externalDocs())
-                .ifPresent(openAPI::setExternalDocs);
+                .ifPresent(definition::setExternalDocs);
 
         // OpenApiDefinition tags
         AnnotationsUtils.getTags(openAPIDefinition.tags(), false)
-                .ifPresent(tags -> openAPI.getTags().addAll(tags));
+                .ifPresent(tags -> definition.setTags(new ArrayList<>(tags)));
 
         // OpenApiDefinition servers
-        AnnotationsUtils.getServers(openAPIDefinition.servers()).ifPresent(openAPI::setServers);
+        AnnotationsUtils.getServers(openAPIDefinition.servers()).ifPresent(definition::setServers);
 
         // OpenApiDefinition extensions
         if (openAPIDefinition.extensions().length > 0) {
-            openAPI.setExtensions(AnnotationsUtils
+            definition.setExtensions(AnnotationsUtils
                     .getExtensions(openAPIDefinition.extensions()));
         }
+        return definition;
     }
 
+    private void applyOpenAPIDefinition(OpenAPI definition) {
+        Optional.ofNullable(definition.getInfo()).ifPresent(openAPI::setInfo);
+        Optional.ofNullable(definition.getSecurity()).ifPresent(openAPI::setSecurity);
+        Optional.ofNullable(definition.getExternalDocs()).ifPresent(openAPI::setExternalDocs);
+        Optional.ofNullable(definition.getTags()).ifPresent(tagRegistry()::addAll);
+        Optional.ofNullable(definition.getServers()).ifPresent(openAPI::setServers);
+        Optional.ofNullable(definition.getExtensions()).ifPresent(openAPI::setExtensions);
+    }
+
+    /**
+     * <p>Hand over the paths of the current {@link OpenAPI} once the last class able to contribute to them is read.</p>
+     * <p>The paths of each class are predicted from the mappings of its candidate methods, before reading. The
+     * OperationIds of the paths handed over stay reserved.</p>
+     */
+    private final class PathStream {
+        private final BiConsumer<String, PathItem> pathConsumer;
+        private final OperationIdProvider usedOperationIds;
+        private final Map<Integer, Set<String>> pathsByLastClass = new HashMap<>();
+        private final Set<String> basePaths;
+
+        private PathStream(List<Class<?>> sortedClasses, String applicationPath, BiConsumer<String, PathItem> pathConsumer) {
+            this.pathConsumer = pathConsumer;
+            this.usedOperationIds = new OperationIdProvider().load(openAPI);
+            this.basePaths = (openAPI.getPaths() == null) ? Collections.emptySet() : new HashSet<>(openAPI.getPaths().keySet());
+
+            Map<String, Integer> lastClassByPath = new HashMap<>();
+            for (int i = 0; i < sortedClasses.size(); i++) {
+                Class<?> cls = sortedClasses.get(i);
+                int index = i;
+                RequestMapping classMapping = AnnotatedElementUtils.findMergedAnnotation(cls, RequestMapping.class);
+                for (Method method : ControllerMethodIndex.of(cls).getCandidates()) {
+                    PathTemplate.forMappings(classMapping, MethodDescriptor.of(method).getRequestMapping(), applicationPath)
+                            .map(PathTemplate::getPath)
+                            .ifPresent(path -> lastClassByPath.put(path, index));
+                }
+            }
+            lastClassByPath.forEach((path, index) -> pathsByLastClass.computeIfAbsent(index, k -> new HashSet<>()).add(path));
+        }
+
+        /**
+         * Hand over the paths completed by the class at the given index, in the order of the {@link OpenAPI}.
+         */
+        private void complete(int index) {
+            handOver(pathsByLastClass.remove(index));
+        }
+
+        /**
+         * Hand over the paths of all the classes, in the order of the {@link OpenAPI}.
+         */
+        private void completeAll() {
+            Set<String> completed = new HashSet<>();
+            pathsByLastClass.values().forEach(completed::addAll);
+            pathsByLastClass.clear();
+            handOver(completed);
+        }
+
+        private void handOver(Set<String> completed) {
+            if (completed == null || openAPI.getPaths() == null) {
+                return;
+            }
+            Iterator<Map.Entry<String, PathItem>> paths = openAPI.getPaths().entrySet().iterator();
+            while (paths.hasNext()) {
+                Map.Entry<String, PathItem> path = paths.next();
+                if (completed.contains(path.getKey()) && !basePaths.contains(path.getKey())) {
+                    paths.remove();
+                    pathConsumer.accept(path.getKey(), path.getValue());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Deterministic ordering of classes where every class comes after its super types.
+ */
+public final class ClassOrdering {
+    private static final Comparator<Class<?>> BY_NAME = Comparator.comparing(Class::getName);
+
+    private ClassOrdering() {
+    }
+
+    /**
+     * <p>Sort the classes with their super types first, then by name.</p>
+     * <p>The hierarchy of each class is walked once to build the graph of the given classes, which is then sorted
+     * topologically. The order only depends on the classes, not on the order of the collection.</p>
+     *
+     * @param classes The classes to sort
+     * @return The sorted distinct classes
+     */
+    public static ImmutableList<Class<?>> supertypesFirst(Collection<Class<?>> classes) {
+        Set<Class<?>> nodes = new HashSet<>(classes);
+        Map<Class<?>, List<Class<?>>> subtypes = new HashMap<>();
+        Map<Class<?>, Integer> supertypeCounts = new HashMap<>();
+        for (Class<?> node : nodes) {
+            int count = 0;
+            for (Class<?> supertype : supertypesOf(node)) {
+                if (nodes.contains(supertype)) {
+                    subtypes.computeIfAbsent(supertype, k -> new ArrayList<>()).add(node);
+                    count++;
+                }
+            }
+            supertypeCounts.put(node, count);
+        }
+
+        PriorityQueue<Class<?>> ready = new PriorityQueue<>(Math.max(1, nodes.size()), BY_NAME);
+        supertypeCounts.forEach((node, count) -> {
+            if (count == 0) {
+                ready.add(node);
+            }
+        });
+        ImmutableList.Builder<Class<?>> sorted = ImmutableList.builderWithExpectedSize(nodes.size());
+        while (!ready.isEmpty()) {
+            Class<?> node = ready.poll();
+            sorted.add(node);
+            for (Class<?> subtype : subtypes.getOrDefault(node, ImmutableList.of())) {
+                int count = supertypeCounts.merge(subtype, -1, Integer::sum);
+                if (count == 0) {
+                    ready.add(subtype);
+                }
+            }
+        }
+        return sorted.build();
+    }
+
+    /**
+     * @return All the distinct super classes and interfaces of the class, the class excluded
+     */
+    private static Set<Class<?>> supertypesOf(Class<?> cls) {
+        Set<Class<?>> supertypes = new HashSet<>();
+        Deque<Class<?>> toVisit = new ArrayDeque<>();
+        toVisit.push(cls);
+        while (!toVisit.isEmpty()) {
+            Class<?> current = toVisit.pop();
+            Class<?> superclass = current.getSuperclass();
+            if (superclass != null && supertypes.add(superclass)) {
+                toVisit.push(superclass);
+            }
+            for (Class<?> itf : current.getInterfaces()) {
+                if (supertypes.add(itf)) {
+                    toVisit.push(itf);
+                }
+            }
+        }
+        return supertypes;
+    }
+}
@@ -0,0 +1,118 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableSortedSet;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>The types referenced by a class file, read from its constant pool.</p>
+ * <p>The references are the class constants and the types found in the descriptors and generic signatures, which
+ * include the types of the fields, of the method parameters and return values, and the class values of the
+ * annotations. The names are internal names, such as {@code java/lang/String}.</p>
+ */
+public final class ClassReferences {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([\\p{javaJavaIdentifierPart}/]+)[;<]");
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private ClassReferences() {
+    }
+
+    /**
+     * @param bytecode The content of a class file
+     * @return The internal names of the referenced types, sorted, without the arrays
+     */
+    public static ImmutableSortedSet<String> of(byte[] bytecode) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytecode))) {
+            if (in.readInt() != MAGIC) {
+                throw new RocketSwaggerException("Not a class file");
+            }
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            List<Integer> classNames = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case CONSTANT_UTF8:
+                        utf8[i] = in.readUTF();
+                        break;
+                    case CONSTANT_CLASS:
+                        classNames.add(in.readUnsignedShort());
+                        break;
+                    case CONSTANT_STRING:
+                    case CONSTANT_METHOD_TYPE:
+                    case CONSTANT_MODULE:
+                    case CONSTANT_PACKAGE:
+                        in.skipBytes(2);
+                        break;
+                    case CONSTANT_METHOD_HANDLE:
+                        in.skipBytes(3);
+                        break;
+                    case CONSTANT_INTEGER:
+                    case CONSTANT_FLOAT:
+                    case CONSTANT_FIELDREF:
+                    case CONSTANT_METHODREF:
+                    case CONSTANT_INTERFACE_METHODREF:
+                    case CONSTANT_NAME_AND_TYPE:
+                    case CONSTANT_DYNAMIC:
+                    case CONSTANT_INVOKE_DYNAMIC:
+                        in.skipBytes(4);
+                        break;
+                    case CONSTANT_LONG:
+                    case CONSTANT_DOUBLE:
+                        in.skipBytes(8);
+                        // 8 bytes constants take two entries
+                        i++;
+                        break;
+                    default:
+                        throw new RocketSwaggerException("Unknown constant pool tag " + tag);
+                }
+            }
+
+            ImmutableSortedSet.Builder<String> references = ImmutableSortedSet.naturalOrder();
+            for (int nameIndex : classNames) {
+                String name = utf8[nameIndex];
+                if (name != null && !name.startsWith("[")) {
+                    references.add(name);
+                }
+            }
+            for (String value : utf8) {
+                if (value != null && value.indexOf('L') >= 0) {
+                    Matcher matcher = TYPE_DESCRIPTOR.matcher(value);
+                    while (matcher.find()) {
+                        references.add(matcher.group(1));
+                    }
+                }
+            }
+            return references.build();
+        } catch (IOException e) {
+            throw new RocketSwaggerException("Unable to read the class file", e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import io.swagger.v3.oas.models.Components;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Accumulate the components read from the classes into a single {@link Components}, in place.</p>
+ * <p>Each map of the accumulated {@link Components} is copied once, on its first write, so the maps given at
+ * construction are never modified. Then merging some components only costs the number of merged entries.</p>
+ */
+public final class ComponentsRegistry {
+    private final Components components;
+    private final Set<OpenAPIComponentsHelper<?>> owned = new HashSet<>();
+
+    /**
+     * @param components The components to append to
+     */
+    public ComponentsRegistry(Components components) {
+        this.components = Objects.requireNonNull(components, "Components must not be null !");
+    }
+
+    public Components getComponents() {
+        return components;
+    }
+
+    public boolean isEmpty() {
+        return OpenAPIComponentsHelper.isNullOrEmpty(components);
+    }
+
+    /**
+     * Merge all the types of components. The entries override the ones with the same name.
+     *
+     * @param toMerge The components to merge, may be null
+     * @return The entries new or changed by the merge
+     */
+    public Components merge(Components toMerge) {
+        Components changed = new Components();
+        if (toMerge == null) {
+            return changed;
+        }
+        for (OpenAPIComponentsHelper<?> type : OpenAPIComponentsHelper.ALL_COMPONENTS_TYPE) {
+            mergeType(type, toMerge, changed);
+        }
+        return changed;
+    }
+
+    private <T> void mergeType(OpenAPIComponentsHelper<T> type, Components toMerge, Components changed) {
+        Map<String, T> changedEntries = merge(type, type.get(toMerge));
+        if (!changedEntries.isEmpty()) {
+            type.set(changed, changedEntries);
+        }
+    }
+
+    /**
+     * Merge the entries of one type of components. The entries override the ones with the same name.
+     *
+     * @param type    The type of components
+     * @param entries The entries to merge, may be null
+     * @param <T>     The type of components
+     * @return The entries new or changed by the merge
+     */
+    public <T> Map<String, T> merge(OpenAPIComponentsHelper<T> type, Map<String, T> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return ImmutableMap.of();
+        }
+        Map<String, T> accumulated = ownedMap(type);
+        Map<String, T> changed = Maps.newLinkedHashMap();
+        entries.forEach((name, entry) -> {
+            T previous = accumulated.put(name, entry);
+            if (!Objects.equals(previous, entry)) {
+                changed.put(name, entry);
+            }
+        });
+        return changed;
+    }
+
+    private <T> Map<String, T> ownedMap(OpenAPIComponentsHelper<T> type) {
+        Map<String, T> current = type.get(components);
+        if (owned.add(type)) {
+            Map<String, T> copy = type.newMap();
+            if (current != null) {
+                copy.putAll(current);
+            }
+            type.set(components, copy);
+            return copy;
+        }
+        return current;
+    }
+}
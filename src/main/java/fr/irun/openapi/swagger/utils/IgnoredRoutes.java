@@ -0,0 +1,108 @@
+package fr.irun.openapi.swagger.utils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>The ignored routes compiled into a trie of path segments.</p>
+ * <p>A path is ignored when it is one of the routes or one of their sub-paths, as in
+ * {@link ReaderUtils#isIgnored(String, Collection)}, but the lookup cost only depends on the number of segments of
+ * the path, not on the number of routes. When wildcards are enabled, a {@value #WILDCARD} segment of a route matches
+ * any single segment of the path.</p>
+ */
+public final class IgnoredRoutes {
+    public static final String WILDCARD = "*";
+    public static final IgnoredRoutes NONE = new IgnoredRoutes(new Node());
+
+    private static final char PATH_DELIMITER = '/';
+
+    private final Node root;
+
+    private IgnoredRoutes(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile the routes, without wildcard support.
+     *
+     * @param routes The ignored routes
+     * @return The compiled routes
+     */
+    public static IgnoredRoutes compile(Collection<String> routes) {
+        return compile(routes, false);
+    }
+
+    /**
+     * Compile the routes.
+     *
+     * @param routes    The ignored routes
+     * @param wildcards True if the {@value #WILDCARD} segments match any segment
+     * @return The compiled routes
+     */
+    public static IgnoredRoutes compile(Collection<String> routes, boolean wildcards) {
+        Objects.requireNonNull(routes, "ignoredRoutes is mandatory !");
+        if (routes.isEmpty()) {
+            return NONE;
+        }
+        Node root = new Node();
+        for (String route : routes) {
+            Node node = root;
+            int start = 0;
+            while (true) {
+                int end = route.indexOf(PATH_DELIMITER, start);
+                String segment = route.substring(start, end < 0 ? route.length() : end);
+                node = (wildcards && WILDCARD.equals(segment)) ? node.wildcard() : node.child(segment);
+                if (end < 0) {
+                    break;
+                }
+                start = end + 1;
+            }
+            node.terminal = true;
+        }
+        return new IgnoredRoutes(root);
+    }
+
+    public boolean isEmpty() {
+        return this == NONE;
+    }
+
+    /**
+     * @param path The path of an operation
+     * @return True if the path or one of its parents is ignored
+     */
+    public boolean isIgnored(String path) {
+        return !isEmpty() && matchSegment(root, path, 0);
+    }
+
+    private static boolean matchSegment(Node node, String path, int start) {
+        int end = path.indexOf(PATH_DELIMITER, start);
+        String segment = path.substring(start, end < 0 ? path.length() : end);
+        return follow(node.children.get(segment), path, end) || follow(node.wildcard, path, end);
+    }
+
+    /**
+     * @return True if the node ends a route or if the rest of the path, after the delimiter at end, matches
+     */
+    private static boolean follow(Node node, String path, int end) {
+        return node != null && (node.terminal || (end >= 0 && matchSegment(node, path, end + 1)));
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private boolean terminal;
+
+        private Node child(String segment) {
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        private Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+    }
+}
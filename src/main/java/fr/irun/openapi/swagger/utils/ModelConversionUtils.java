@@ -1,9 +1,11 @@
 package fr.irun.openapi.swagger.utils;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeBase;
 import io.swagger.v3.core.converter.AnnotatedType;
 
 import javax.annotation.Nullable;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Optional;
@@ -75,14 +77,49 @@ public final class ModelConversionUtils {
     }
 
 
+    /**
+     * Obtain the raw class related to a given type, without building its name.
+     * An array is related to the class of its elements.
+     *
+     * @param type type to extract the raw class.
+     * @return The raw class or empty if the type is not a class, a parameterized type or a Jackson type.
+     */
+    static Optional<Class<?>> getRawClass(@Nullable Type type) {
+        if (type instanceof Class) {
+            Class<?> rawClass = (Class<?>) type;
+            while (rawClass.isArray()) {
+                rawClass = rawClass.getComponentType();
+            }
+            return Optional.of(rawClass);
+        }
+        if (type instanceof JavaType) {
+            JavaType javaType = (JavaType) type;
+            while (javaType.isArrayType()) {
+                javaType = javaType.getContentType();
+            }
+            return Optional.ofNullable(javaType.getRawClass());
+        }
+        if (type instanceof ParameterizedType) {
+            return getRawClass(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            return getRawClass(((GenericArrayType) type).getGenericComponentType());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Compute the resolution strategy to use for a type.
+     * The strategy is dispatched on the raw class of the type, the class name is parsed only for the other types.
      *
      * @param inputType the type to get the strategy.
      * @return the strategy related to the type.
      */
     public static ResolutionStrategy getResolutionStrategy(AnnotatedType inputType) {
-        return ResolutionStrategy.fromClassName(getClassName(inputType.getType()));
+        Type type = inputType.getType();
+        return getRawClass(type)
+                .map(ResolutionStrategy::fromClass)
+                .orElseGet(() -> ResolutionStrategy.fromClassName(getClassName(type)));
     }
 
     /**
@@ -54,6 +54,14 @@ public class OpenAPIComponentsHelper<T> {
         return Maps.newHashMap();
     }
 
+    Map<String, T> get(Components components) {
+        return getter.apply(components);
+    }
+
+    void set(Components components, Map<String, T> elements) {
+        setter.accept(components, elements);
+    }
+
     public void mergeComponents(Components merged, Components... components) {
         Map<String, T> accu = Optional.ofNullable(getter.apply(merged)).orElseGet(Maps::newHashMap);
 
@@ -0,0 +1,118 @@
+package fr.irun.openapi.swagger.utils;
+
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * <p>Structural copies of the configuration and of the {@link OpenAPI} given to a reader.</p>
+ * <p>Only the containers the reader modifies in place are copied: the {@link OpenAPI}, its {@link Paths} and
+ * {@link PathItem}s, and its {@link Components}. The maps of the components are shared, they are copied on their first
+ * write by {@link ComponentsRegistry}. All the other elements, such as the schemas, are shared with the original.</p>
+ */
+public final class OpenAPICopies {
+    private OpenAPICopies() {
+    }
+
+    /**
+     * Copy a configuration and the containers of its {@link OpenAPI}.
+     *
+     * @param configuration The configuration to copy
+     * @return The copy
+     */
+    public static SwaggerConfiguration copyOf(OpenAPIConfiguration configuration) {
+        SwaggerConfiguration copy = new SwaggerConfiguration()
+                .resourcePackages(configuration.getResourcePackages() == null ? null : new LinkedHashSet<>(configuration.getResourcePackages()))
+                .resourceClasses(configuration.getResourceClasses() == null ? null : new LinkedHashSet<>(configuration.getResourceClasses()))
+                .readerClass(configuration.getReaderClass())
+                .scannerClass(configuration.getScannerClass())
+                .filterClass(configuration.getFilterClass())
+                .ignoredRoutes(configuration.getIgnoredRoutes() == null ? null : new ArrayList<>(configuration.getIgnoredRoutes()))
+                .openAPI(configuration.getOpenAPI() == null ? null : copyOf(configuration.getOpenAPI()))
+                .userDefinedOptions(configuration.getUserDefinedOptions() == null ? null : new LinkedHashMap<>(configuration.getUserDefinedOptions()))
+                .readAllResources(configuration.isReadAllResources())
+                .prettyPrint(configuration.isPrettyPrint())
+                .cacheTTL(configuration.getCacheTTL())
+                .objectMapperProcessorClass(configuration.getObjectMapperProcessorClass())
+                .modelConverterClasses(configuration.getModelConverterClasses() == null ? null : new LinkedHashSet<>(configuration.getModelConverterClasses()))
+                .sortOutput(configuration.isSortOutput())
+                .alwaysResolveAppPath(configuration.isAlwaysResolveAppPath());
+        if (configuration instanceof SwaggerConfiguration) {
+            copy.setId(((SwaggerConfiguration) configuration).getId());
+        }
+        return copy;
+    }
+
+    /**
+     * Copy the containers of an {@link OpenAPI}.
+     *
+     * @param openAPI The document to copy
+     * @return The copy, sharing the elements of the original
+     */
+    public static OpenAPI copyOf(OpenAPI openAPI) {
+        OpenAPI copy = new OpenAPI();
+        copy.setOpenapi(openAPI.getOpenapi());
+        copy.setInfo(openAPI.getInfo());
+        copy.setExternalDocs(openAPI.getExternalDocs());
+        copy.setServers(openAPI.getServers());
+        copy.setSecurity(openAPI.getSecurity());
+        copy.setTags(openAPI.getTags());
+        copy.setExtensions(openAPI.getExtensions());
+        if (openAPI.getPaths() != null) {
+            copy.setPaths(copyOf(openAPI.getPaths()));
+        }
+        if (openAPI.getComponents() != null) {
+            copy.setComponents(copyOf(openAPI.getComponents()));
+        }
+        return copy;
+    }
+
+    private static Paths copyOf(Paths paths) {
+        Paths copy = new Paths();
+        paths.forEach((path, pathItem) -> copy.put(path, pathItem == null ? null : copyOf(pathItem)));
+        copy.setExtensions(paths.getExtensions());
+        return copy;
+    }
+
+    private static PathItem copyOf(PathItem pathItem) {
+        PathItem copy = new PathItem();
+        copy.setSummary(pathItem.getSummary());
+        copy.setDescription(pathItem.getDescription());
+        copy.setGet(pathItem.getGet());
+        copy.setPut(pathItem.getPut());
+        copy.setPost(pathItem.getPost());
+        copy.setDelete(pathItem.getDelete());
+        copy.setOptions(pathItem.getOptions());
+        copy.setHead(pathItem.getHead());
+        copy.setPatch(pathItem.getPatch());
+        copy.setTrace(pathItem.getTrace());
+        copy.setServers(pathItem.getServers());
+        copy.setParameters(pathItem.getParameters());
+        copy.set$ref(pathItem.get$ref());
+        copy.setExtensions(pathItem.getExtensions());
+        return copy;
+    }
+
+    private static Components copyOf(Components components) {
+        Components copy = new Components();
+        for (OpenAPIComponentsHelper<?> type : OpenAPIComponentsHelper.ALL_COMPONENTS_TYPE) {
+            share(type, components, copy);
+        }
+        return copy;
+    }
+
+    private static <T> void share(OpenAPIComponentsHelper<T> type, Components from, Components to) {
+        Map<String, T> entries = type.get(from);
+        if (entries != null) {
+            type.set(to, entries);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package fr.irun.openapi.swagger.utils;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -7,15 +9,31 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 public final class OperationIdProvider {
     private final Set<String> usedOperationIds;
+    private final Map<String, String> preferredByProvided;
 
     public OperationIdProvider() {
         usedOperationIds = Sets.newHashSet();
+        preferredByProvided = Maps.newLinkedHashMap();
+    }
+
+    /**
+     * Create a provider which has already provided some OperationIds, as returned by {@link #getProvidedOperationIds()}.
+     *
+     * @param provided The preferred OperationIds by provided OperationId, in the order they were provided
+     * @return The provider, ready to {@link #replay(OperationIdProvider)} the OperationIds
+     */
+    public static OperationIdProvider ofProvided(Map<String, String> provided) {
+        OperationIdProvider provider = new OperationIdProvider();
+        provider.usedOperationIds.addAll(provided.keySet());
+        provider.preferredByProvided.putAll(provided);
+        return provider;
     }
 
     public OperationIdProvider load(OpenAPI openAPI) {
@@ -49,6 +67,29 @@ public final class OperationIdProvider {
             unusedOperationId = String.format("%s_%d", preferred, ++counter);
         }
         usedOperationIds.add(unusedOperationId);
+        preferredByProvided.put(unusedOperationId, preferred);
         return unusedOperationId;
     }
+
+    /**
+     * @return The preferred OperationIds by provided OperationId, in the order they were provided
+     */
+    public ImmutableMap<String, String> getProvidedOperationIds() {
+        return ImmutableMap.copyOf(preferredByProvided);
+    }
+
+    /**
+     * Provide again, from another provider and in the same order, all the OperationIds provided by this one.
+     * This allows a controller read on its own to take the OperationIds it would have obtained if it had been read
+     * after the previous controllers.
+     *
+     * @param target The provider holding the OperationIds already used
+     * @return The OperationIds provided by this provider mapped to the ones provided by the target
+     */
+    public Map<String, String> replay(OperationIdProvider target) {
+        ImmutableMap.Builder<String, String> replayed = ImmutableMap.builder();
+        preferredByProvided.forEach((provided, preferred) ->
+                replayed.put(provided, target.provideOperationId(preferred)));
+        return replayed.build();
+    }
 }
@@ -0,0 +1,81 @@
+package fr.irun.openapi.swagger.utils;
+
+import io.swagger.v3.core.util.ReflectionUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>The HTTP methods declared by the {@link RequestMapping} of the controller methods, and their overridden
+ * methods.</p>
+ * <p>Both are cached by declaring class, so the hierarchy of a method is walked once whatever the number of
+ * controllers inheriting it, and released with the class.</p>
+ */
+final class OperationMethodIndex {
+    private static final ClassValue<ConcurrentMap<Method, Optional<Method>>> OVERRIDDEN =
+            new ClassValue<ConcurrentMap<Method, Optional<Method>>>() {
+                @Override
+                protected ConcurrentMap<Method, Optional<Method>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final ClassValue<ConcurrentMap<Method, Resolution>> RESOLUTIONS =
+            new ClassValue<ConcurrentMap<Method, Resolution>>() {
+                @Override
+                protected ConcurrentMap<Method, Resolution> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private OperationMethodIndex() {
+    }
+
+    /**
+     * @param method A method
+     * @return The method overridden by the given one, as found by {@link ReflectionUtils#getOverriddenMethod(Method)}
+     */
+    static Optional<Method> getOverriddenMethod(Method method) {
+        return OVERRIDDEN.get(method.getDeclaringClass()).computeIfAbsent(method,
+                m -> Optional.ofNullable(ReflectionUtils.getOverriddenMethod(m)));
+    }
+
+    /**
+     * Resolve the HTTP method from the {@link RequestMapping} of a method or of the methods it overrides.
+     *
+     * @param method The controller method
+     * @return The resolution, with the method to give to the extensions when no HTTP method is declared
+     */
+    static Resolution resolve(Method method) {
+        return RESOLUTIONS.get(method.getDeclaringClass()).computeIfAbsent(method, OperationMethodIndex::compute);
+    }
+
+    private static Resolution compute(Method method) {
+        RequestMethod[] methods = Optional.ofNullable(AnnotationUtils.findAnnotation(method, RequestMapping.class))
+                .map(RequestMapping::method).orElse(new RequestMethod[]{});
+        if (methods.length != 0) {
+            return new Resolution(methods[0].name().toLowerCase(Locale.ROOT), null);
+        }
+        return getOverriddenMethod(method)
+                .map(OperationMethodIndex::resolve)
+                .orElseGet(() -> new Resolution(null, method));
+    }
+
+    /**
+     * Either the declared HTTP method or the deepest overridden method, left to the extensions.
+     */
+    static final class Resolution {
+        final String httpMethod;
+        final Method undeclaredMethod;
+
+        private Resolution(String httpMethod, Method undeclaredMethod) {
+            this.httpMethod = httpMethod;
+            this.undeclaredMethod = undeclaredMethod;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import io.swagger.v3.core.util.PathUtils;
+import lombok.Getter;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>The path of an operation, compiled from the application, class and method paths.</p>
+ * <p>The templates are cached by path components, so the concatenation, the parsing of the path variables and the
+ * comparison with the application path are done once per distinct combination. The cache only holds strings and
+ * never prevents a class from being unloaded.</p>
+ */
+@Getter
+public final class PathTemplate {
+    private static final char PATH_DELIMITER = '/';
+    private static final String NULL_PATH = "null";
+
+    private static final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, PathTemplate>>> TEMPLATES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The concatenated path, with the regex of the path variables, as built by {@link ReaderUtils#getPath}.
+     */
+    private final String rawPath;
+    /**
+     * The OpenAPI path, without the regex of the path variables, null if it can not be parsed.
+     */
+    private final String path;
+    /**
+     * The regex of the path variables by variable name.
+     */
+    private final ImmutableMap<String, String> regexMap;
+    /**
+     * True if the path is the application path itself.
+     */
+    private final boolean sameAsParent;
+
+    private PathTemplate(String parentPath, String classPath, String methodPath) {
+        this.rawPath = ReaderUtils.concatPath(parentPath, classPath, methodPath);
+        this.sameAsParent = isSamePath(rawPath, parentPath);
+        Map<String, String> regex = new LinkedHashMap<>();
+        String parsed = PathUtils.parsePath(rawPath, regex);
+        this.path = (parsed == null) ? null : parsed.intern();
+        this.regexMap = ImmutableMap.copyOf(regex);
+    }
+
+    /**
+     * Get the template of an operation, compiling it on first access.
+     *
+     * @param classMapping  The mapping of the controller, may be null
+     * @param methodMapping The mapping of the method, may be null
+     * @param parentPath    The path of the application, may be null
+     * @return The template, empty if there is no path at all
+     */
+    public static Optional<PathTemplate> forMappings(RequestMapping classMapping, RequestMapping methodMapping, String parentPath) {
+        if (classMapping == null && methodMapping == null && (parentPath == null || parentPath.isEmpty())) {
+            return Optional.empty();
+        }
+        return Optional.of(of(parentPath, firstPath(classMapping), firstPath(methodMapping)));
+    }
+
+    /**
+     * Get the template of a path, compiling it on first access.
+     *
+     * @param parentPath The path of the application, may be null
+     * @param classPath  The path of the controller, may be null
+     * @param methodPath The path of the method, may be null
+     * @return The cached template
+     */
+    public static PathTemplate of(String parentPath, String classPath, String methodPath) {
+        String parent = (parentPath == null) ? "" : parentPath;
+        String clazz = (classPath == null) ? "" : classPath;
+        String method = (methodPath == null) ? "" : methodPath;
+        return TEMPLATES.computeIfAbsent(parent, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(clazz, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, k -> new PathTemplate(parent, clazz, method));
+    }
+
+    /**
+     * Remove all the compiled templates.
+     */
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+
+    private static String firstPath(RequestMapping mapping) {
+        return (mapping == null || mapping.path().length == 0) ? null : mapping.path()[0];
+    }
+
+    /**
+     * Compare two paths as absolute paths, ignoring the duplicated and trailing delimiters. A null path is compared
+     * as the {@code "null"} path, the way it is printed.
+     *
+     * @param left  The first path
+     * @param right The second path
+     * @return True if the paths are the same
+     */
+    public static boolean isSamePath(String left, String right) {
+        String l = (left == null) ? NULL_PATH : left;
+        String r = (right == null) ? NULL_PATH : right;
+        int i = skipDelimiters(l, 0);
+        int j = skipDelimiters(r, 0);
+        while (i < l.length() && j < r.length()) {
+            char cl = l.charAt(i);
+            char cr = r.charAt(j);
+            if (cl != cr) {
+                return false;
+            }
+            if (cl == PATH_DELIMITER) {
+                i = skipDelimiters(l, i);
+                j = skipDelimiters(r, j);
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return skipDelimiters(l, i) == l.length() && skipDelimiters(r, j) == r.length();
+    }
+
+    private static int skipDelimiters(String path, int from) {
+        int i = from;
+        while (i < path.length() && path.charAt(i) == PATH_DELIMITER) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -2,6 +2,7 @@ package fr.irun.openapi.swagger.utils;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import com.google.common.collect.Sets;
+import fr.irun.openapi.swagger.readers.ExtensionPipeline;
 import fr.irun.openapi.swagger.readers.OpenAPIExtension;
 import fr.irun.openapi.swagger.readers.OpenAPIExtensions;
 import io.swagger.v3.core.util.ParameterProcessor;
@@ -9,10 +10,8 @@ import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestMethod;
 
 import javax.annotation.Nonnull;
 import java.lang.annotation.Annotation;
@@ -37,16 +36,36 @@ public final class ReaderUtils {
     }
 
     /**
-     * Collects constructor-level parameters from class.
+     * Collects constructor-level parameters from class, with the current extensions.
      *
      * @param cls                is a class for collecting
      * @param components         OpenAPI Components
      * @param classConsumes      {@link RequestMapping} annotation from the read class
      * @param jsonViewAnnotation {@link JsonView} annotation from the read class
      * @return the collection of supported parameters
+     * @deprecated Use {@link #collectConstructorParameters(Class, Components, RequestMapping, JsonView, ExtensionPipeline)}
+     * with the pipeline of the read
      */
+    @Deprecated
     public static List<Parameter> collectConstructorParameters(
             Class<?> cls, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation) {
+        return collectConstructorParameters(
+                cls, components, classConsumes, jsonViewAnnotation, OpenAPIExtensions.getPipeline());
+    }
+
+    /**
+     * Collects constructor-level parameters from class.
+     *
+     * @param cls                is a class for collecting
+     * @param components         OpenAPI Components
+     * @param classConsumes      {@link RequestMapping} annotation from the read class
+     * @param jsonViewAnnotation {@link JsonView} annotation from the read class
+     * @param extensionPipeline  The extensions used for the whole read
+     * @return the collection of supported parameters
+     */
+    public static List<Parameter> collectConstructorParameters(
+            Class<?> cls, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation,
+            ExtensionPipeline extensionPipeline) {
 
         if (cls.isLocalClass() || (cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))) {
             return Collections.emptyList();
@@ -73,7 +92,8 @@ public final class ReaderUtils {
                 } else {
                     final Type genericParameterType = genericParameterTypes[i];
                     final List<Parameter> tmpParameters = collectParameters(
-                            genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation);
+                            genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation,
+                            extensionPipeline);
                     if (tmpParameters.size() >= 1) {
                         for (Parameter tmpParameter : tmpParameters) {
                             Parameter processedParameter = ParameterProcessor.applyAnnotations(
@@ -103,28 +123,50 @@ public final class ReaderUtils {
     }
 
     /**
-     * Collects field-level parameters from class.
+     * Collects field-level parameters from class, with the current extensions.
      *
      * @param cls                is a class for collecting
      * @param components         OpenAPI Components
      * @param classConsumes      {@link RequestMapping} annotation from the read class
      * @param jsonViewAnnotation {@link JsonView} annotation from the read class
      * @return the collection of supported parameters
+     * @deprecated Use {@link #collectFieldParameters(Class, Components, RequestMapping, JsonView, ExtensionPipeline)}
+     * with the pipeline of the read
      */
+    @Deprecated
     public static List<Parameter> collectFieldParameters(
             Class<?> cls, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation) {
+        return collectFieldParameters(
+                cls, components, classConsumes, jsonViewAnnotation, OpenAPIExtensions.getPipeline());
+    }
+
+    /**
+     * Collects field-level parameters from class.
+     *
+     * @param cls                is a class for collecting
+     * @param components         OpenAPI Components
+     * @param classConsumes      {@link RequestMapping} annotation from the read class
+     * @param jsonViewAnnotation {@link JsonView} annotation from the read class
+     * @param extensionPipeline  The extensions used for the whole read
+     * @return the collection of supported parameters
+     */
+    public static List<Parameter> collectFieldParameters(
+            Class<?> cls, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation,
+            ExtensionPipeline extensionPipeline) {
         final List<Parameter> parameters = new ArrayList<>();
         for (Field field : ReflectionUtils.getDeclaredFields(cls)) {
             final List<Annotation> annotations = Arrays.asList(field.getAnnotations());
             final Type genericType = field.getGenericType();
-            parameters.addAll(collectParameters(genericType, annotations, components, classConsumes, jsonViewAnnotation));
+            parameters.addAll(collectParameters(
+                    genericType, annotations, components, classConsumes, jsonViewAnnotation, extensionPipeline));
         }
         return parameters;
     }
 
     private static List<Parameter> collectParameters(
-            Type type, List<Annotation> annotations, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation) {
-        final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
+            Type type, List<Annotation> annotations, Components components, RequestMapping classConsumes, JsonView jsonViewAnnotation,
+            ExtensionPipeline extensionPipeline) {
+        final Iterator<OpenAPIExtension> chain = extensionPipeline.chain(OpenAPIExtension.Hook.EXTRACT_PARAMETERS);
         return chain.hasNext()
                 ? chain.next().extractParameters(
                 annotations, type, Sets.newHashSet(), components,
@@ -192,22 +234,39 @@ public final class ReaderUtils {
         return false;
     }
 
+    /**
+     * Check a path against compiled ignored routes, in a time independent of the number of routes.
+     *
+     * @param path          The path of an operation
+     * @param ignoredRoutes The compiled ignored routes
+     * @return True if the path or one of its parents is ignored
+     */
+    public static boolean isIgnored(String path, @Nonnull IgnoredRoutes ignoredRoutes) {
+        return Objects.requireNonNull(ignoredRoutes, "ignoredRoutes is mandatory !").isIgnored(path);
+    }
+
     public static String getPath(
             RequestMapping classLevelPath, RequestMapping methodLevelPath, String parentPath, boolean isSubresource) {
         if (classLevelPath == null && methodLevelPath == null && StringUtils.isEmpty(parentPath)) {
             return null;
         }
+        String classPath = (classLevelPath != null && classLevelPath.path().length > 0 && !isSubresource)
+                ? classLevelPath.path()[0] : null;
+        String methodPath = (methodLevelPath != null && methodLevelPath.path().length > 0)
+                ? methodLevelPath.path()[0] : null;
+        return concatPath(parentPath, classPath, methodPath);
+    }
+
+    /**
+     * Concatenate path components, see {@link #appendPathComponent(String, StringBuilder)}.
+     *
+     * @param components The components, null or empty ones are ignored
+     * @return The path, "/" if all the components are empty
+     */
+    static String concatPath(String... components) {
         StringBuilder b = new StringBuilder();
-        appendPathComponent(parentPath, b);
-        if (classLevelPath != null) {
-            if (classLevelPath.path().length > 0 && !isSubresource) {
-                appendPathComponent(classLevelPath.path()[0], b);
-            }
-        }
-        if (methodLevelPath != null) {
-            if (methodLevelPath.path().length > 0) {
-                appendPathComponent(methodLevelPath.path()[0], b);
-            }
+        for (String component : components) {
+            appendPathComponent(component, b);
         }
         return b.length() == 0 ? PATH_DELIMITER : b.toString();
     }
@@ -237,15 +296,21 @@ public final class ReaderUtils {
         }
     }
 
+    /**
+     * Get the HTTP method of a controller method from its {@link RequestMapping} or the one of the methods it
+     * overrides. The mappings are only resolved once per method, the extensions are called when none declares an
+     * HTTP method.
+     *
+     * @param method The controller method
+     * @param chain  The extensions to call when no HTTP method is declared, may be null
+     * @return The lower case HTTP method, null if unknown
+     */
     public static String extractOperationMethod(Method method, Iterator<OpenAPIExtension> chain) {
-        RequestMethod[] methods = Optional.ofNullable(AnnotationUtils.findAnnotation(method, RequestMapping.class))
-                .map(RequestMapping::method).orElse(new RequestMethod[]{});
-        if (methods.length != 0) {
-            return methods[0].name().toLowerCase();
-        } else if ((ReflectionUtils.getOverriddenMethod(method)) != null) {
-            return extractOperationMethod(ReflectionUtils.getOverriddenMethod(method), chain);
+        OperationMethodIndex.Resolution resolution = OperationMethodIndex.resolve(method);
+        if (resolution.httpMethod != null) {
+            return resolution.httpMethod;
         } else if (chain != null && chain.hasNext()) {
-            return chain.next().extractOperationMethod(method, chain);
+            return chain.next().extractOperationMethod(resolution.undeclaredMethod, chain);
         } else {
             return null;
         }
@@ -1,10 +1,13 @@
 package fr.irun.openapi.swagger.utils;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Enumeration of the possible model types.
@@ -12,17 +15,14 @@ import java.util.Arrays;
 public enum ResolutionStrategy {
 
     /**
-     * Strategy for a generic wrapper (e.g. Mono).
+     * Strategy for a generic wrapper (e.g. Mono), see {@link WrapperTypeRegistry.Unwrap#SINGLE}.
      */
-    WRAP_GENERIC(
-            "reactor.core.publisher.Mono",
-            "org.springframework.http.ResponseEntity"
-    ),
+    WRAP_GENERIC,
 
     /**
-     * Strategy for a generic array wrapper (e.g. Flux).
+     * Strategy for a generic array wrapper (e.g. Flux), see {@link WrapperTypeRegistry.Unwrap#ARRAY}.
      */
-    WRAP_GENERIC_ARRAY("reactor.core.publisher.Flux"),
+    WRAP_GENERIC_ARRAY,
 
     /**
      * Strategy for a Date.
@@ -46,6 +46,17 @@ public enum ResolutionStrategy {
      */
     DEFAULT("");
 
+    private static final ImmutableMap<String, ResolutionStrategy> STRATEGIES_BY_CLASS_NAME = Arrays.stream(values())
+            .flatMap(strategy -> strategy.relatedClassNames.stream().map(name -> Maps.immutableEntry(name, strategy)))
+            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, Map.Entry::getValue));
+
+    private static final ClassValue<ResolutionStrategy> STRATEGIES_BY_CLASS = new ClassValue<ResolutionStrategy>() {
+        @Override
+        protected ResolutionStrategy computeValue(Class<?> type) {
+            return STRATEGIES_BY_CLASS_NAME.getOrDefault(type.getName(), ResolutionStrategy.DEFAULT);
+        }
+    };
+
     private final ImmutableSet<String> relatedClassNames;
 
     ResolutionStrategy(String... relatedClassNames) {
@@ -59,10 +70,28 @@ public enum ResolutionStrategy {
      * @return The type related to the given class.
      */
     public static ResolutionStrategy fromClassName(String className) {
-        return Arrays.stream(values())
-                .filter(m -> m.relatedClassNames.contains(className))
-                .findFirst()
-                .orElse(ResolutionStrategy.DEFAULT);
+        if (className == null) {
+            return ResolutionStrategy.DEFAULT;
+        }
+        return WrapperTypeRegistry.get(className)
+                .map(ResolutionStrategy::fromUnwrap)
+                .orElseGet(() -> STRATEGIES_BY_CLASS_NAME.getOrDefault(className, ResolutionStrategy.DEFAULT));
+    }
+
+    /**
+     * Extract an enum from a raw class, the result is cached by class except for the wrapper types.
+     *
+     * @param rawClass The raw class to get the related type.
+     * @return The type related to the given class.
+     */
+    public static ResolutionStrategy fromClass(Class<?> rawClass) {
+        return WrapperTypeRegistry.get(rawClass)
+                .map(ResolutionStrategy::fromUnwrap)
+                .orElseGet(() -> STRATEGIES_BY_CLASS.get(rawClass));
+    }
+
+    private static ResolutionStrategy fromUnwrap(WrapperTypeRegistry.Unwrap unwrap) {
+        return (unwrap == WrapperTypeRegistry.Unwrap.ARRAY) ? WRAP_GENERIC_ARRAY : WRAP_GENERIC;
     }
 
 }
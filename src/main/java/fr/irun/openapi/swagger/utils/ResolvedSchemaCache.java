@@ -0,0 +1,132 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <p>Bounded and thread-safe memo of the schemas resolved by {@link ModelConverters}, with their referenced
+ * schemas.</p>
+ * <p>The entries are keyed by canonical type, {@link JsonView}, resolution as reference, model converters and
+ * wrapper types. The schemas are kept serialized: each resolution returns its own schemas, free to be modified.</p>
+ */
+public final class ResolvedSchemaCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final ObjectMapper mapper = Json.mapper();
+    private final Cache<List<Object>, SerializedSchema> cache;
+
+    public ResolvedSchemaCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize The maximum number of resolved schemas kept
+     */
+    public ResolvedSchemaCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Resolve the schema of a type, or get it from the cache.
+     *
+     * @param type               The type to resolve
+     * @param jsonViewAnnotation The {@link JsonView} applied, may be null
+     * @param resolveAsRef       Whether the schema is resolved as a reference
+     * @return The resolved schema
+     */
+    public ResolvedSchema resolve(Type type, JsonView jsonViewAnnotation, boolean resolveAsRef) {
+        ModelConverters converters = ModelConverters.getInstance();
+        List<Object> key = Arrays.asList(TypeFactory.defaultInstance().constructType(type), jsonViewAnnotation, resolveAsRef,
+                ImmutableList.copyOf(converters.getConverters()), WrapperTypeRegistry.getWrapperTypes());
+        ResolvedSchema[] resolved = {null};
+        try {
+            SerializedSchema serialized = cache.get(key, () -> {
+                resolved[0] = converters.resolveAsResolvedSchema(
+                        new AnnotatedType(type).resolveAsRef(resolveAsRef).jsonViewAnnotation(jsonViewAnnotation));
+                return new SerializedSchema(mapper, resolved[0]);
+            });
+            // The schemas just resolved are not shared, they are returned as is
+            return (resolved[0] != null) ? resolved[0] : serialized.deserialize(mapper);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RocketSwaggerException("Unable to resolve schema of " + type.getTypeName(), e.getCause());
+        } catch (JsonProcessingException e) {
+            throw new RocketSwaggerException("Unable to copy the schema of " + type.getTypeName(), e);
+        }
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * A resolved schema as JSON trees, never modified.
+     */
+    private static final class SerializedSchema {
+        private final JsonNode schema;
+        private final Map<String, JsonNode> referencedSchemas;
+
+        @SuppressWarnings("rawtypes")
+        private SerializedSchema(ObjectMapper mapper, ResolvedSchema resolved) {
+            this.schema = (resolved.schema == null) ? null : mapper.valueToTree(resolved.schema);
+            if (resolved.referencedSchemas == null) {
+                this.referencedSchemas = null;
+            } else {
+                this.referencedSchemas = new LinkedHashMap<>();
+                for (Map.Entry<String, Schema> referenced : resolved.referencedSchemas.entrySet()) {
+                    referencedSchemas.put(referenced.getKey(), mapper.valueToTree(referenced.getValue()));
+                }
+            }
+        }
+
+        @SuppressWarnings("rawtypes")
+        private ResolvedSchema deserialize(ObjectMapper mapper) throws JsonProcessingException {
+            ResolvedSchema resolved = new ResolvedSchema();
+            resolved.schema = (schema == null) ? null : mapper.treeToValue(schema, Schema.class);
+            if (referencedSchemas != null) {
+                resolved.referencedSchemas = new LinkedHashMap<>();
+                for (Map.Entry<String, JsonNode> referenced : referencedSchemas.entrySet()) {
+                    resolved.referencedSchemas.put(referenced.getKey(), mapper.treeToValue(referenced.getValue(), Schema.class));
+                }
+            }
+            return resolved;
+        }
+    }
+}
@@ -2,14 +2,16 @@ package fr.irun.openapi.swagger.utils;
 
 import com.fasterxml.jackson.databind.type.SimpleType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import org.springframework.http.ResponseEntity;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Unwrap the types registered in the {@link WrapperTypeRegistry}, e.g. {@code Mono<T>} as {@code T} and
+ * {@code Flux<T>} as {@code List<T>}.
+ */
 public final class SpringTypeResolver {
     private SpringTypeResolver() {
     }
@@ -25,26 +27,32 @@ public final class SpringTypeResolver {
     }
 
     public static Type resolve(SimpleType unresolvedType) {
-        if ((unresolvedType.hasRawClass(Mono.class) || unresolvedType.hasRawClass(ResponseEntity.class))
-                && !unresolvedType.getBindings().isEmpty()) {
+        if (unresolvedType.getBindings().isEmpty()) {
+            return unresolvedType;
+        }
+        Optional<WrapperTypeRegistry.Unwrap> unwrap = WrapperTypeRegistry.get(unresolvedType.getRawClass());
+        if (!unwrap.isPresent()) {
+            return unresolvedType;
+        } else if (unwrap.get() == WrapperTypeRegistry.Unwrap.SINGLE) {
             return unresolvedType.getBindings().getBoundType(0);
-        } else if (unresolvedType.hasRawClass(Flux.class) && !unresolvedType.getBindings().isEmpty()) {
-            return TypeFactory.defaultInstance().constructCollectionType(List.class, unresolvedType.getBindings().getBoundType(0));
         } else {
-            return unresolvedType;
+            return TypeFactory.defaultInstance().constructCollectionType(List.class, unresolvedType.getBindings().getBoundType(0));
         }
     }
 
     public static Type resolve(ParameterizedType unresolvedType) {
-        if ((unresolvedType.getRawType().equals(Mono.class) || unresolvedType.getRawType().equals(ResponseEntity.class))
-                && unresolvedType.getActualTypeArguments().length == 1) {
+        if (!(unresolvedType.getRawType() instanceof Class) || unresolvedType.getActualTypeArguments().length != 1) {
+            return unresolvedType;
+        }
+        Optional<WrapperTypeRegistry.Unwrap> unwrap = WrapperTypeRegistry.get((Class<?>) unresolvedType.getRawType());
+        if (!unwrap.isPresent()) {
+            return unresolvedType;
+        } else if (unwrap.get() == WrapperTypeRegistry.Unwrap.SINGLE) {
             return resolve(unresolvedType.getActualTypeArguments()[0]);
-        } else if (unresolvedType.getRawType().equals(Flux.class) && unresolvedType.getActualTypeArguments().length == 1) {
+        } else {
             TypeFactory typeFactory = TypeFactory.defaultInstance();
             Type actualTypeArgument = unresolvedType.getActualTypeArguments()[0];
             return resolve(typeFactory.constructCollectionType(List.class, typeFactory.constructType(actualTypeArgument)));
-        } else {
-            return unresolvedType;
         }
     }
 }
@@ -0,0 +1,105 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableList;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Keep the global tags sorted by name and unique as they are added, the list of tags is built only on demand.
+ */
+public final class TagRegistry {
+
+    /**
+     * How the tags with the same name but different contents are merged.
+     */
+    public enum MergePolicy {
+        /**
+         * Keep all the distinct tags, in the order they were added.
+         */
+        KEEP_ALL,
+        /**
+         * Keep the first tag added.
+         */
+        KEEP_FIRST,
+        /**
+         * Keep the last tag added.
+         */
+        KEEP_LAST,
+        /**
+         * Keep the first tag added, completed with the description, external docs and extensions of the next ones
+         * when missing.
+         */
+        MERGE_MISSING
+    }
+
+    private final MergePolicy mergePolicy;
+    private final Map<String, List<Tag>> tagsByName = new TreeMap<>();
+
+    public TagRegistry(MergePolicy mergePolicy) {
+        this.mergePolicy = Objects.requireNonNull(mergePolicy, "Merge policy is mandatory !");
+    }
+
+    public boolean isEmpty() {
+        return tagsByName.isEmpty();
+    }
+
+    public void addAll(Collection<Tag> tags) {
+        if (tags != null) {
+            tags.forEach(this::add);
+        }
+    }
+
+    public void add(Tag tag) {
+        if (tag == null || tag.getName() == null) {
+            return;
+        }
+        List<Tag> named = tagsByName.get(tag.getName());
+        if (named == null) {
+            named = new ArrayList<>(1);
+            named.add(tag);
+            tagsByName.put(tag.getName(), named);
+            return;
+        }
+        if (named.contains(tag)) {
+            return;
+        }
+        switch (mergePolicy) {
+            case KEEP_ALL:
+                named.add(tag);
+                break;
+            case KEEP_LAST:
+                named.set(0, tag);
+                break;
+            case MERGE_MISSING:
+                named.set(0, mergeMissing(named.get(0), tag));
+                break;
+            case KEEP_FIRST:
+            default:
+                break;
+        }
+    }
+
+    private static Tag mergeMissing(Tag first, Tag next) {
+        return new Tag()
+                .name(first.getName())
+                .description(Optional.ofNullable(first.getDescription()).orElse(next.getDescription()))
+                .externalDocs(Optional.ofNullable(first.getExternalDocs()).orElse(next.getExternalDocs()))
+                .extensions(Optional.ofNullable(first.getExtensions()).orElse(next.getExtensions()));
+    }
+
+    /**
+     * @return The tags sorted by name
+     */
+    public List<Tag> getTags() {
+        ImmutableList.Builder<Tag> tags = ImmutableList.builder();
+        tagsByName.values().forEach(tags::addAll);
+        return tags.build();
+    }
+}
@@ -0,0 +1,17 @@
+package fr.irun.openapi.swagger.utils;
+
+import java.util.Map;
+
+/**
+ * <p>Service provider declaring wrapper types to the {@link WrapperTypeRegistry}.</p>
+ * <p>The implementations are loaded through {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/fr.irun.openapi.swagger.utils.WrapperTypeProvider}.</p>
+ */
+public interface WrapperTypeProvider {
+    /**
+     * The wrapper types are declared by class name, so optional libraries do not have to be on the classpath.
+     *
+     * @return How to unwrap each wrapper type, by class name
+     */
+    Map<String, WrapperTypeRegistry.Unwrap> getWrapperTypes();
+}
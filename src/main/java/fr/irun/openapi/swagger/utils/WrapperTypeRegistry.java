@@ -0,0 +1,130 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * <p>Registry of the generic types wrapping the type to document, as {@code Mono<T>} or {@code Flux<T>}.</p>
+ * <p>The defaults are completed by the {@link WrapperTypeProvider} services and by the programmatic registrations.
+ * The lookup table is rebuilt on each change and shared by the {@link ResolutionStrategy} and the
+ * {@link SpringTypeResolver}.</p>
+ */
+@Slf4j
+public final class WrapperTypeRegistry {
+
+    /**
+     * How a wrapper type is unwrapped.
+     */
+    public enum Unwrap {
+        /**
+         * The wrapper is documented as its first type argument, e.g. {@code Mono<T>} as {@code T}.
+         */
+        SINGLE,
+        /**
+         * The wrapper is documented as an array of its first type argument, e.g. {@code Flux<T>} as {@code T[]}.
+         */
+        ARRAY
+    }
+
+    public static final ImmutableMap<String, Unwrap> DEFAULT_WRAPPER_TYPES = ImmutableMap.<String, Unwrap>builder()
+            .put("reactor.core.publisher.Mono", Unwrap.SINGLE)
+            .put("org.springframework.http.ResponseEntity", Unwrap.SINGLE)
+            .put("java.util.concurrent.CompletableFuture", Unwrap.SINGLE)
+            .put("java.util.concurrent.CompletionStage", Unwrap.SINGLE)
+            .put("java.util.Optional", Unwrap.SINGLE)
+            .put("io.reactivex.Single", Unwrap.SINGLE)
+            .put("io.reactivex.Maybe", Unwrap.SINGLE)
+            .put("io.reactivex.rxjava3.core.Single", Unwrap.SINGLE)
+            .put("io.reactivex.rxjava3.core.Maybe", Unwrap.SINGLE)
+            .put("reactor.core.publisher.Flux", Unwrap.ARRAY)
+            .put("org.reactivestreams.Publisher", Unwrap.ARRAY)
+            .put("io.reactivex.Flowable", Unwrap.ARRAY)
+            .put("io.reactivex.Observable", Unwrap.ARRAY)
+            .put("io.reactivex.rxjava3.core.Flowable", Unwrap.ARRAY)
+            .put("io.reactivex.rxjava3.core.Observable", Unwrap.ARRAY)
+            .put("kotlinx.coroutines.flow.Flow", Unwrap.ARRAY)
+            .build();
+
+    private static volatile ImmutableMap<String, Unwrap> wrapperTypes = loadWrapperTypes();
+
+    private WrapperTypeRegistry() {
+    }
+
+    private static ImmutableMap<String, Unwrap> loadWrapperTypes() {
+        Map<String, Unwrap> loaded = new HashMap<>(DEFAULT_WRAPPER_TYPES);
+        for (WrapperTypeProvider provider : ServiceLoader.load(WrapperTypeProvider.class)) {
+            log.debug("adding wrapper types from {}", provider);
+            loaded.putAll(provider.getWrapperTypes());
+        }
+        return ImmutableMap.copyOf(loaded);
+    }
+
+    /**
+     * @return The registered wrapper types by class name
+     */
+    public static ImmutableMap<String, Unwrap> getWrapperTypes() {
+        return wrapperTypes;
+    }
+
+    /**
+     * Get how a type is unwrapped.
+     *
+     * @param className The name of the raw class
+     * @return How the type is unwrapped, empty if the type is not a wrapper
+     */
+    public static Optional<Unwrap> get(String className) {
+        return Optional.ofNullable(className).map(wrapperTypes::get);
+    }
+
+    /**
+     * Get how a type is unwrapped.
+     *
+     * @param rawClass The raw class
+     * @return How the type is unwrapped, empty if the type is not a wrapper
+     */
+    public static Optional<Unwrap> get(Class<?> rawClass) {
+        return Optional.ofNullable(wrapperTypes.get(rawClass.getName()));
+    }
+
+    /**
+     * Register or replace a wrapper type.
+     *
+     * @param className The name of the raw class
+     * @param unwrap    How the type is unwrapped
+     */
+    public static synchronized void register(String className, Unwrap unwrap) {
+        Objects.requireNonNull(className, "Class name is mandatory !");
+        Objects.requireNonNull(unwrap, "Unwrap is mandatory !");
+        Map<String, Unwrap> updated = new HashMap<>(wrapperTypes);
+        updated.put(className, unwrap);
+        wrapperTypes = ImmutableMap.copyOf(updated);
+    }
+
+    public static void register(Class<?> rawClass, Unwrap unwrap) {
+        register(rawClass.getName(), unwrap);
+    }
+
+    /**
+     * Unregister a wrapper type, the type is then documented as is.
+     *
+     * @param className The name of the raw class
+     */
+    public static synchronized void unregister(String className) {
+        Map<String, Unwrap> updated = new HashMap<>(wrapperTypes);
+        updated.remove(className);
+        wrapperTypes = ImmutableMap.copyOf(updated);
+    }
+
+    /**
+     * Restore the default and the service provided wrapper types.
+     */
+    public static synchronized void reset() {
+        wrapperTypes = loadWrapperTypes();
+    }
+}
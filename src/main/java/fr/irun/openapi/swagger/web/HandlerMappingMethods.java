@@ -0,0 +1,78 @@
+package fr.irun.openapi.swagger.web;
+
+import com.google.common.collect.ImmutableList;
+import fr.irun.openapi.swagger.readers.MappedMethod;
+import fr.irun.openapi.swagger.readers.SpringOpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>The handler methods of a running WebFlux application, as resolved by its {@link RequestMappingHandlerMapping}.</p>
+ * <p>The routes come from the compiled conditions of the {@link RequestMappingInfo}, so no classpath scanning is
+ * needed and the routes registered programmatically are described as the annotated ones. Only the path patterns,
+ * the HTTP methods and the consumed and produced media types of the conditions are used.</p>
+ */
+public final class HandlerMappingMethods {
+    private HandlerMappingMethods() {
+    }
+
+    /**
+     * Read the handler methods of a mapping.
+     *
+     * @param reader         The configured reader
+     * @param handlerMapping The initialized handler mapping of the application
+     * @return the generated OpenAPI definition
+     */
+    public static OpenAPI read(SpringOpenApiReader reader, RequestMappingHandlerMapping handlerMapping) {
+        return reader.readMappedMethods(of(handlerMapping));
+    }
+
+    /**
+     * @param handlerMapping The initialized handler mapping of the application
+     * @return A {@link MappedMethod} by path pattern and HTTP method of each registered handler method
+     */
+    public static List<MappedMethod> of(RequestMappingHandlerMapping handlerMapping) {
+        Objects.requireNonNull(handlerMapping, "Handler mapping is mandatory !");
+        return of(handlerMapping.getHandlerMethods());
+    }
+
+    /**
+     * @param handlerMethods The handler methods by mapping
+     * @return A {@link MappedMethod} by path pattern and HTTP method of each handler method
+     */
+    public static List<MappedMethod> of(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        ImmutableList.Builder<MappedMethod> mappedMethods = ImmutableList.builder();
+        handlerMethods.forEach((info, handlerMethod) -> {
+            List<String> consumes = toStrings(info.getConsumesCondition().getConsumableMediaTypes());
+            List<String> produces = toStrings(info.getProducesCondition().getProducibleMediaTypes());
+            Set<RequestMethod> requestMethods = info.getMethodsCondition().getMethods();
+            Collection<RequestMethod> methods = requestMethods.isEmpty()
+                    ? Collections.singleton(null)
+                    : requestMethods;
+            for (PathPattern pattern : info.getPatternsCondition().getPatterns()) {
+                for (RequestMethod requestMethod : methods) {
+                    mappedMethods.add(new MappedMethod(handlerMethod.getBeanType(), handlerMethod.getMethod(),
+                            pattern.getPatternString(), requestMethod, consumes, produces));
+                }
+            }
+        });
+        return mappedMethods.build();
+    }
+
+    private static List<String> toStrings(Set<MediaType> mediaTypes) {
+        return mediaTypes.stream().map(MediaType::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,221 @@
+package fr.irun.openapi.swagger.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>Serve an OpenAPI definition from a WebFlux application.</p>
+ * <p>The definition is serialized once, in JSON and YAML, plain and gzipped. Each request is then answered with a
+ * read-only view of the prepared bytes, or with a {@code 304 Not Modified} when the {@code If-None-Match} header
+ * matches the strong ETag of the representation, so serving the definition never serializes nor compresses it
+ * again.</p>
+ */
+public final class OpenAPIDocumentHandler {
+    public static final MediaType APPLICATION_YAML = MediaType.parseMediaType("application/yaml");
+
+    private static final String GZIP = "gzip";
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final DefaultDataBufferFactory BUFFER_FACTORY = new DefaultDataBufferFactory();
+
+    @Getter
+    private final SerializedDocument json;
+    @Getter
+    private final SerializedDocument yaml;
+
+    private OpenAPIDocumentHandler(SerializedDocument json, SerializedDocument yaml) {
+        this.json = json;
+        this.yaml = yaml;
+    }
+
+    /**
+     * Serialize a definition with the swagger {@link Json#mapper()} and {@link Yaml#mapper()}.
+     *
+     * @param openAPI The definition, as read by the {@link fr.irun.openapi.swagger.readers.SpringOpenApiReader}
+     * @return The handler serving the definition
+     */
+    public static OpenAPIDocumentHandler of(OpenAPI openAPI) {
+        Objects.requireNonNull(openAPI, "OpenAPI is mandatory !");
+        return new OpenAPIDocumentHandler(
+                SerializedDocument.of(serialize(Json.mapper(), openAPI), MediaType.APPLICATION_JSON),
+                SerializedDocument.of(serialize(Yaml.mapper(), openAPI), APPLICATION_YAML));
+    }
+
+    private static byte[] serialize(ObjectMapper mapper, OpenAPI openAPI) {
+        try {
+            return mapper.writeValueAsBytes(openAPI);
+        } catch (JsonProcessingException e) {
+            throw new RocketSwaggerException("Unable to serialize the OpenAPI definition", e);
+        }
+    }
+
+    /**
+     * @param jsonPath The path of the JSON definition
+     * @param yamlPath The path of the YAML definition
+     * @return The {@code GET} routes of the definition
+     */
+    public RouterFunction<ServerResponse> routes(String jsonPath, String yamlPath) {
+        return RouterFunctions.route(RequestPredicates.GET(jsonPath), this::json)
+                .andRoute(RequestPredicates.GET(yamlPath), this::yaml);
+    }
+
+    /**
+     * @param request The request
+     * @return The JSON definition
+     */
+    public Mono<ServerResponse> json(ServerRequest request) {
+        return serve(json, request);
+    }
+
+    /**
+     * @param request The request
+     * @return The YAML definition
+     */
+    public Mono<ServerResponse> yaml(ServerRequest request) {
+        return serve(yaml, request);
+    }
+
+    private static Mono<ServerResponse> serve(SerializedDocument document, ServerRequest request) {
+        boolean gzip = acceptsGzip(request.headers().header(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? document.getGzipETag() : document.getETag();
+
+        if (matches(request.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        byte[] bytes = gzip ? document.gzipBytes : document.bytes;
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .contentType(document.getMediaType())
+                .contentLength(bytes.length)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        // The buffer is a read-only view, the array is shared by all the responses
+        DataBuffer buffer = BUFFER_FACTORY.wrap(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+        return response.body(BodyInserters.fromDataBuffers(Mono.just(buffer)));
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncodings) {
+        for (String header : acceptEncodings) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.split(";");
+                if (GZIP.equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                    return parts.length < 2 || !isZeroQuality(parts[1]);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        String trimmed = parameter.trim();
+        if (!trimmed.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(trimmed.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, a {@code W/} tag matches the strong tag with the same value.
+     */
+    private static boolean matches(List<String> ifNoneMatch, String eTag) {
+        for (String header : ifNoneMatch) {
+            for (String tag : header.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.startsWith(WEAK_ETAG_PREFIX)) {
+                    trimmed = trimmed.substring(WEAK_ETAG_PREFIX.length());
+                }
+                if (ANY_ETAG.equals(trimmed) || eTag.equals(trimmed)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A serialized representation of the definition, with its gzipped variant and their strong ETags.
+     */
+    @Getter
+    public static final class SerializedDocument {
+        private final MediaType mediaType;
+        private final byte[] bytes;
+        private final byte[] gzipBytes;
+        /**
+         * The quoted SHA-256 of the bytes.
+         */
+        private final String eTag;
+        /**
+         * The ETag of the gzipped variant, which is another representation of the same content.
+         */
+        private final String gzipETag;
+
+        private SerializedDocument(MediaType mediaType, byte[] bytes, byte[] gzipBytes, String hash) {
+            this.mediaType = mediaType;
+            this.bytes = bytes;
+            this.gzipBytes = gzipBytes;
+            this.eTag = '"' + hash + '"';
+            this.gzipETag = '"' + hash + '-' + GZIP + '"';
+        }
+
+        private static SerializedDocument of(byte[] bytes, MediaType mediaType) {
+            return new SerializedDocument(mediaType, bytes, gzip(bytes), Hashing.sha256().hashBytes(bytes).toString());
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new RocketSwaggerException("Unable to compress the OpenAPI definition", e);
+            }
+            return out.toByteArray();
+        }
+
+        public byte[] getBytes() {
+            return bytes.clone();
+        }
+
+        public byte[] getGzipBytes() {
+            return gzipBytes.clone();
+        }
+    }
+}
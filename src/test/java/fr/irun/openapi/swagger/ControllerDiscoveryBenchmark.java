@@ -0,0 +1,117 @@
+package fr.irun.openapi.swagger;
+
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.index.RestControllerIndexProcessor;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compare the discovery of the controllers by classpath scanning and by the index of
+ * {@link SpringOpenApiScanner.ScanMode#INDEX}.</p>
+ * <p>The synthetic classpath holds a directory and a jar, both compiled with the {@link RestControllerIndexProcessor},
+ * each with 10 packages of 150 model classes and 5 controllers. The index mode includes the check of the directory
+ * against its index.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ControllerDiscoveryBenchmark {
+    private static final int PACKAGES = 10;
+    private static final int MODELS = 150;
+    private static final int CONTROLLERS = 5;
+    private static final String RESOURCE_PACKAGE = "bench";
+
+    private Path workDirectory;
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void setUp() throws Exception {
+        workDirectory = Files.createTempDirectory("controller-discovery");
+        Path classes = compile("app", workDirectory.resolve("classes"));
+        Path jar = SyntheticClasspath.jar(compile("lib", workDirectory.resolve("lib")), workDirectory.resolve("lib.jar"));
+        classLoader = new URLClassLoader(
+                new URL[]{classes.toUri().toURL(), jar.toUri().toURL()}, getClass().getClassLoader());
+
+        int expected = 2 * PACKAGES * CONTROLLERS;
+        int scanned = scanClasspath().size();
+        int indexed = readIndex().size();
+        if (scanned != expected || indexed != expected) {
+            throw new IllegalStateException("Expected " + expected + " controllers, scanned " + scanned
+                    + ", indexed " + indexed);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        SyntheticClasspath.delete(workDirectory);
+    }
+
+    @Benchmark
+    public Set<Class<?>> scanClasspath() {
+        return discover(SpringOpenApiScanner.ScanMode.CLASSPATH);
+    }
+
+    @Benchmark
+    public Set<Class<?>> readIndex() {
+        return discover(SpringOpenApiScanner.ScanMode.INDEX);
+    }
+
+    private Set<Class<?>> discover(SpringOpenApiScanner.ScanMode scanMode) {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            SpringOpenApiScanner scanner = new SpringOpenApiScanner(scanMode);
+            scanner.setConfiguration(new SwaggerConfiguration().resourcePackages(ImmutableSet.of(RESOURCE_PACKAGE)));
+            return scanner.classes();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private static Path compile(String module, Path output) throws IOException {
+        SyntheticClasspath classpath = new SyntheticClasspath();
+        for (int p = 0; p < PACKAGES; p++) {
+            String packageName = RESOURCE_PACKAGE + '.' + module + ".p" + p;
+            for (int m = 0; m < MODELS; m++) {
+                classpath.add(packageName, "Model" + m, "public class Model" + m + " {\n"
+                        + "  public String name;\n"
+                        + "  public int value;\n"
+                        + (m > 0 ? "  public Model" + (m - 1) + " previous;\n" : "")
+                        + "  public String getName() { return name; }\n"
+                        + "}");
+            }
+            for (int c = 0; c < CONTROLLERS; c++) {
+                classpath.add(packageName, "Controller" + c,
+                        "@org.springframework.web.bind.annotation.RestController\n"
+                                + "public class Controller" + c + " {\n"
+                                + "  @org.springframework.web.bind.annotation.GetMapping(\"/" + module + "/p" + p + "/c" + c + "\")\n"
+                                + "  public Model" + c + " get() { return null; }\n"
+                                + "}");
+            }
+        }
+        return classpath.compile(output, new RestControllerIndexProcessor());
+    }
+}
@@ -2,8 +2,12 @@ package fr.irun.openapi.swagger;
 
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import fr.irun.openapi.swagger.readers.SpringOpenApiReader;
 import com.google.common.reflect.TypeToken;
 import fr.irun.openapi.swagger.resolver.DateTimeModelResolver;
 import fr.irun.openapi.swagger.resolver.DefaultModelResolver;
@@ -11,10 +15,15 @@ import fr.irun.openapi.swagger.resolver.GenericArrayModelResolver;
 import fr.irun.openapi.swagger.resolver.GenericModelResolver;
 import fr.irun.openapi.swagger.resolver.MapModelResolver;
 import fr.irun.openapi.swagger.resolver.RocketModelResolver;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
 import fr.irun.openapi.swagger.utils.ResolutionStrategy;
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,11 +35,16 @@ import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,6 +76,98 @@ class RocketModelConverterTest {
         tested = new RocketModelConverter(resolverMocks);
     }
 
+    @Test
+    void should_register_jackson_converter_once() {
+        ModelConverters modelConverters = new ModelConverters();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        RocketModelConverter.registerJacksonConverters(objectMapper, modelConverters);
+        int expected = modelConverters.getConverters().size();
+        for (int i = 0; i < 1_000; i++) {
+            RocketModelConverter.registerJacksonConverters(objectMapper, modelConverters);
+        }
+
+        assertThat(modelConverters.getConverters()).hasSize(expected);
+    }
+
+    @Test
+    void should_replace_jackson_converter_of_previous_mapper() {
+        ModelConverters modelConverters = new ModelConverters();
+        int expected = modelConverters.getConverters().size() + 1;
+
+        for (int i = 0; i < 1_000; i++) {
+            RocketModelConverter.registerJacksonConverters(new ObjectMapper(), modelConverters);
+        }
+        ObjectMapper lastMapper = new ObjectMapper();
+        RocketModelConverter.registerJacksonConverters(lastMapper, modelConverters);
+
+        assertThat(modelConverters.getConverters()).hasSize(expected);
+        assertThat(modelConverters.getConverters().get(0)).isInstanceOf(ModelResolver.class);
+        assertThat(((ModelResolver) modelConverters.getConverters().get(0)).objectMapper()).isSameAs(lastMapper);
+    }
+
+    @Test
+    void should_keep_regenerations_flat() {
+        ModelConverters global = ModelConverters.getInstance();
+        List<ModelConverter> original = ImmutableList.copyOf(global.getConverters());
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        try {
+            int chainLength = regenerate(global);
+            long[] durations = new long[1_000];
+            long firstHeap = 0;
+            for (int i = 0; i < durations.length; i++) {
+                long start = System.nanoTime();
+                assertThat(regenerate(global)).isEqualTo(chainLength);
+                durations[i] = System.nanoTime() - start;
+                if (i == 99) {
+                    firstHeap = usedHeapAfterGc(memory);
+                }
+            }
+            long lastHeap = usedHeapAfterGc(memory);
+
+            long firstAverage = LongStream.of(durations).skip(100).limit(100).sum() / 100;
+            long lastAverage = LongStream.of(durations).skip(900).sum() / 100;
+            assertThat(lastAverage).isLessThan(3 * firstAverage + TimeUnit.MILLISECONDS.toNanos(1));
+            assertThat(lastHeap - firstHeap).isLessThan(16L * 1024 * 1024);
+        } finally {
+            ImmutableList.copyOf(global.getConverters()).forEach(global::removeConverter);
+            Lists.reverse(original).forEach(global::addConverter);
+        }
+    }
+
+    /**
+     * Generate a definition with a new mapper, as an application regenerating its definition does.
+     *
+     * @return The length of the converter chain during the generation
+     */
+    private static int regenerate(ModelConverters global) {
+        RocketModelConverter converter = new RocketModelConverter(new ObjectMapper());
+        global.addConverter(converter);
+        try {
+            new SpringOpenApiReader(new OpenAPI()).read(SimpleRestController.class);
+            return global.getConverters().size();
+        } finally {
+            global.removeConverter(converter);
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Test
+    void should_not_register_default_mapper_twice() {
+        int expected = ModelConverters.getInstance().getConverters().size();
+
+        new RocketModelConverter();
+        new RocketModelConverter(Json.mapper());
+
+        assertThat(ModelConverters.getInstance().getConverters()).hasSize(expected);
+    }
+
     @Test
     void should_create_default_resolver() {
         final RocketModelConverter actualConverter = new RocketModelConverter();
@@ -0,0 +1,215 @@
+package fr.irun.openapi.swagger;
+
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.index.RestControllerIndex;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.InitializationTracker;
+import fr.irun.openapi.swagger.samples.InvalidPassword;
+import fr.irun.openapi.swagger.samples.RestWithBodyController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import fr.irun.openapi.swagger.samples.StaticInitializerController;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class SpringOpenApiScannerTest {
+    private static final String SAMPLES_PACKAGE = "fr.irun.openapi.swagger.samples";
+
+    @TempDir
+    Path staleIndexDir;
+
+    @Test
+    void should_scan_classpath() {
+        Set<Class<?>> actual = scanner(SpringOpenApiScanner.ScanMode.CLASSPATH).classes();
+
+        Assertions.assertThat(actual).containsOnly(
+                AuthenticationController.class, RestWithBodyController.class, RestWithConsumesController.class,
+                SimpleRestController.class, SimpleRestWithParameters.class, StaticInitializerController.class);
+    }
+
+    @Test
+    void should_not_initialize_scanned_classes() {
+        Set<Class<?>> actual = scanner(SpringOpenApiScanner.ScanMode.CLASSPATH).classes();
+
+        Assertions.assertThat(actual).contains(StaticInitializerController.class);
+        Assertions.assertThat(actual).extracting(Class::getSimpleName).doesNotContain("HiddenController");
+        Assertions.assertThat(InitializationTracker.INITIALIZED).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SpringOpenApiScanner.ScanMode.class)
+    void should_load_only_visible_controllers(SpringOpenApiScanner.ScanMode scanMode) throws Exception {
+        URL testClasses = SpringOpenApiScannerTest.class.getProtectionDomain().getCodeSource().getLocation();
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (RecordingClassLoader classLoader = new RecordingClassLoader(testClasses, SAMPLES_PACKAGE + '.')) {
+            thread.setContextClassLoader(classLoader);
+            Set<Class<?>> actual = scanner(scanMode).classes();
+
+            Assertions.assertThat(actual).hasSize(6);
+            Assertions.assertThat(classLoader.loaded).containsExactlyInAnyOrder(
+                    AuthenticationController.class.getName(), RestWithBodyController.class.getName(),
+                    RestWithConsumesController.class.getName(), SimpleRestController.class.getName(),
+                    SimpleRestWithParameters.class.getName(), StaticInitializerController.class.getName());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    void should_read_controller_index() {
+        Set<Class<?>> actual = scanner(SpringOpenApiScanner.ScanMode.INDEX).classes();
+
+        Assertions.assertThat(actual).containsOnly(
+                AuthenticationController.class, RestWithBodyController.class, RestWithConsumesController.class,
+                SimpleRestController.class, SimpleRestWithParameters.class, StaticInitializerController.class);
+    }
+
+    @Test
+    void should_accept_complete_index() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        RestControllerIndex index = RestControllerIndex.load(classLoader).orElseThrow(AssertionError::new);
+
+        Assertions.assertThat(SpringOpenApiScanner.isComplete(index, ImmutableSet.of(SAMPLES_PACKAGE), classLoader))
+                .isTrue();
+    }
+
+    @Test
+    void should_reject_index_without_added_controller() throws Exception {
+        copyClass(SimpleRestController.class);
+        copyClass(AuthenticationController.class);
+        copyClass(InvalidPassword.class);
+        writeIndex(SimpleRestController.class.getName());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{staleIndexDir.toUri().toURL()}, getClass().getClassLoader())) {
+            RestControllerIndex index = RestControllerIndex.load(classLoader).orElseThrow(AssertionError::new);
+
+            Assertions.assertThat(SpringOpenApiScanner.isComplete(index, ImmutableSet.of(SAMPLES_PACKAGE), classLoader))
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void should_trust_classes_checked_by_the_processor() throws Exception {
+        copyClass(SimpleRestController.class);
+        copyClass(AuthenticationController.class);
+        writeIndex(SimpleRestController.class.getName());
+        Files.write(staleIndexDir.resolve(RestControllerIndex.CHECKED_TYPES_LOCATION), ImmutableSet.of(
+                SimpleRestController.class.getName(), AuthenticationController.class.getName()), StandardCharsets.UTF_8);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{staleIndexDir.toUri().toURL()}, getClass().getClassLoader())) {
+            RestControllerIndex index = RestControllerIndex.load(classLoader).orElseThrow(AssertionError::new);
+
+            Assertions.assertThat(SpringOpenApiScanner.isComplete(index, ImmutableSet.of(SAMPLES_PACKAGE), classLoader))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void should_ignore_unindexed_classes_which_are_not_controllers() throws Exception {
+        copyClass(SimpleRestController.class);
+        copyClass(InvalidPassword.class);
+        writeIndex(SimpleRestController.class.getName());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{staleIndexDir.toUri().toURL()}, getClass().getClassLoader())) {
+            RestControllerIndex index = RestControllerIndex.load(classLoader).orElseThrow(AssertionError::new);
+
+            Assertions.assertThat(SpringOpenApiScanner.isComplete(index, ImmutableSet.of(SAMPLES_PACKAGE), classLoader))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void should_reject_index_when_package_has_unindexed_root() throws Exception {
+        copyClass(SimpleRestController.class);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{staleIndexDir.toUri().toURL()}, getClass().getClassLoader())) {
+            RestControllerIndex index = RestControllerIndex.load(classLoader).orElseThrow(AssertionError::new);
+
+            Assertions.assertThat(SpringOpenApiScanner.isComplete(index, ImmutableSet.of(SAMPLES_PACKAGE), classLoader))
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void should_fallback_to_classpath_when_index_is_stale() throws Exception {
+        writeIndex(SAMPLES_PACKAGE + ".RemovedController");
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{staleIndexDir.toUri().toURL()}, original)) {
+            thread.setContextClassLoader(classLoader);
+            Set<Class<?>> actual = scanner(SpringOpenApiScanner.ScanMode.INDEX).classes();
+
+            Assertions.assertThat(actual).hasSize(6);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private void writeIndex(String className) throws IOException {
+        Path index = staleIndexDir.resolve(RestControllerIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singleton(className), StandardCharsets.UTF_8);
+    }
+
+    private void copyClass(Class<?> type) throws IOException {
+        String classFile = type.getName().replace('.', '/') + ".class";
+        Path target = staleIndexDir.resolve(classFile);
+        Files.createDirectories(target.getParent());
+        try (InputStream is = type.getClassLoader().getResourceAsStream(classFile)) {
+            Files.copy(Objects.requireNonNull(is), target);
+        }
+    }
+
+    private static SpringOpenApiScanner scanner(SpringOpenApiScanner.ScanMode scanMode) {
+        SpringOpenApiScanner scanner = new SpringOpenApiScanner(scanMode);
+        scanner.setConfiguration(new SwaggerConfiguration().resourcePackages(ImmutableSet.of(SAMPLES_PACKAGE)));
+        return scanner;
+    }
+
+    /**
+     * Define the classes of a package itself and record them, the other classes come from the parent.
+     */
+    private static final class RecordingClassLoader extends URLClassLoader {
+        private final String prefix;
+        private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+        private RecordingClassLoader(URL classes, String prefix) {
+            super(new URL[]{classes}, SpringOpenApiScannerTest.class.getClassLoader());
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(prefix)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> found = findLoadedClass(name);
+                if (found == null) {
+                    found = findClass(name);
+                    loaded.add(name);
+                }
+                return found;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package fr.irun.openapi.swagger;
+
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Compile generated sources into a directory or a jar, for the benchmarks needing more classes than the samples.
+ */
+public final class SyntheticClasspath {
+    private final List<JavaFileObject> sources = new ArrayList<>();
+
+    /**
+     * Add a source file.
+     *
+     * @param packageName The package of the type
+     * @param simpleName  The simple name of the type
+     * @param code        The code of the type, without the package declaration
+     * @return This classpath
+     */
+    public SyntheticClasspath add(String packageName, String simpleName, String code) {
+        String className = packageName + '.' + simpleName;
+        sources.add(new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "package " + packageName + ";\n" + code;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Compile the sources against the classpath of the tests.
+     *
+     * @param output     The directory of the class files
+     * @param processors The annotation processors to run, none to disable the processing
+     * @return The output directory
+     */
+    public Path compile(Path output, Processor... processors) throws IOException {
+        Files.createDirectories(output);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + location(RestController.class),
+                "-parameters", "-d", output.toString()));
+        if (processors.length == 0) {
+            options.add("-proc:none");
+        }
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, sources);
+        if (processors.length > 0) {
+            task.setProcessors(Arrays.asList(processors));
+        }
+        if (!task.call()) {
+            throw new IllegalStateException("Unable to compile the synthetic classes in " + output);
+        }
+        return output;
+    }
+
+    /**
+     * @param classes The directory to pack
+     * @param jar     The jar to write
+     * @return The jar, with an entry for each directory
+     */
+    public static Path jar(Path classes, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            Iterator<Path> sorted = files.sorted().iterator();
+            while (sorted.hasNext()) {
+                Path file = sorted.next();
+                String name = classes.relativize(file).toString().replace(File.separatorChar, '/');
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (Files.isDirectory(file)) {
+                    out.putNextEntry(new JarEntry(name + '/'));
+                } else {
+                    out.putNextEntry(new JarEntry(name));
+                    Files.copy(file, out);
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * @param directory The directory to delete with its content
+     */
+    public static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> sorted = files.sorted(Comparator.reverseOrder()).iterator();
+            while (sorted.hasNext()) {
+                Files.delete(sorted.next());
+            }
+        }
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
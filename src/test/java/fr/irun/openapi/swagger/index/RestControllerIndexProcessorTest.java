@@ -0,0 +1,98 @@
+package fr.irun.openapi.swagger.index;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+class RestControllerIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void should_index_rest_controllers() throws Exception {
+        compile(
+                source("sample.api.UserController",
+                        "package sample.api;\n"
+                                + "@org.springframework.web.bind.annotation.RestController\n"
+                                + "public class UserController {\n"
+                                + "  @org.springframework.web.bind.annotation.RestController\n"
+                                + "  public static class Nested {}\n"
+                                + "}"),
+                source("sample.api.MetaController",
+                        "package sample.api;\n"
+                                + "@sample.api.MetaController.Api\n"
+                                + "public class MetaController {\n"
+                                + "  @org.springframework.web.bind.annotation.RestController\n"
+                                + "  @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                                + "  public @interface Api {}\n"
+                                + "}"),
+                source("sample.model.User", "package sample.model;\npublic class User {}"));
+
+        Path index = output.resolve(RestControllerIndex.INDEX_LOCATION);
+        Assertions.assertThat(Files.readAllLines(index, StandardCharsets.UTF_8)).containsExactly(
+                "sample.api.MetaController",
+                "sample.api.UserController",
+                "sample.api.UserController$Nested");
+        Assertions.assertThat(Files.readAllLines(output.resolve(RestControllerIndex.CHECKED_TYPES_LOCATION),
+                StandardCharsets.UTF_8)).containsExactly(
+                "sample.api.MetaController",
+                "sample.api.MetaController$Api",
+                "sample.api.UserController",
+                "sample.api.UserController$Nested",
+                "sample.model.User");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, null)) {
+            Optional<RestControllerIndex> actual = RestControllerIndex.load(classLoader);
+            Assertions.assertThat(actual).isPresent();
+            Assertions.assertThat(actual.get().getClassNames(Collections.singleton("sample.api")))
+                    .hasSize(3);
+            Assertions.assertThat(actual.get().getClassNames(Collections.singleton("sample.ap"))).isEmpty();
+            Assertions.assertThat(actual.get().getClassNames(Collections.singleton(""))).hasSize(3);
+        }
+    }
+
+    @Test
+    void should_not_find_missing_index() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, null)) {
+            Assertions.assertThat(RestControllerIndex.load(classLoader)).isEmpty();
+        }
+    }
+
+    private void compile(JavaFileObject... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = new File(RestController.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        List<String> options = Arrays.asList("-classpath", classpath, "-d", output.toString(), "-proc:only");
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new RestControllerIndexProcessor()));
+        Assertions.assertThat(task.call()).isTrue();
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
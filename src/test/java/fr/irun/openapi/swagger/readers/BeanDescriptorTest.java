@@ -0,0 +1,132 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+class BeanDescriptorTest {
+
+    @Test
+    void should_cache_descriptor_by_type_and_mapper() {
+        JavaType type = TypeFactory.defaultInstance().constructType(SampleBean.class);
+
+        BeanDescriptor actual = BeanDescriptor.of(Json.mapper(), type);
+
+        Assertions.assertThat(BeanDescriptor.of(Json.mapper(), TypeFactory.defaultInstance().constructType(SampleBean.class)))
+                .isSameAs(actual);
+        Assertions.assertThat(BeanDescriptor.of(new ObjectMapper(), type)).isNotSameAs(actual);
+    }
+
+    @Test
+    void should_not_retain_child_class_loader() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        WeakReference<ClassLoader> actual = describeInChildClassLoader(mapper);
+
+        Assertions.assertThat(collect(actual)).isNull();
+        // The mapper is still in use, only the class loader is gone
+        Assertions.assertThat(mapper).isNotNull();
+    }
+
+    @Test
+    void should_not_retain_mapper() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        BeanDescriptor.of(mapper, TypeFactory.defaultInstance().constructType(SampleBean.class));
+        WeakReference<ObjectMapper> actual = new WeakReference<>(mapper);
+        mapper = null;
+
+        Assertions.assertThat(collect(actual)).isNull();
+    }
+
+    @Test
+    void should_merge_property_annotations() {
+        BeanDescriptor actual = BeanDescriptor.of(Json.mapper(), TypeFactory.defaultInstance().constructType(SampleBean.class));
+
+        Assertions.assertThat(actual.getBeanDescription().getBeanClass()).isEqualTo(SampleBean.class);
+        Assertions.assertThat(actual.getProperties())
+                .extracting(BeanDescriptor.PropertyDescriptor::getName)
+                .containsExactlyInAnyOrder("name", "size");
+        BeanDescriptor.PropertyDescriptor name = actual.getProperties().stream()
+                .filter(p -> "name".equals(p.getName()))
+                .findFirst().orElseThrow(IllegalStateException::new);
+        Assertions.assertThat(name.getType().getTypeName()).contains(String.class.getName());
+        Assertions.assertThat(name.getAnnotations())
+                .extracting(Annotation::annotationType)
+                .containsExactly(JsonProperty.class, Schema.class);
+    }
+
+    public static class SampleBean {
+        @JsonProperty("name")
+        private String name;
+        private int size;
+
+        public String getName() {
+            return name;
+        }
+
+        @Schema(description = "The name")
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @JsonProperty
+        public int getSize() {
+            return size;
+        }
+    }
+
+    private static WeakReference<ClassLoader> describeInChildClassLoader(ObjectMapper mapper) throws Exception {
+        URL classes = BeanDescriptorTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (ChildFirstClassLoader loader = new ChildFirstClassLoader(classes, SampleBean.class.getName())) {
+            Class<?> bean = loader.loadClass(SampleBean.class.getName());
+            Assertions.assertThat(bean).isNotSameAs(SampleBean.class);
+            TypeFactory typeFactory = mapper.getTypeFactory();
+
+            BeanDescriptor.of(mapper, typeFactory.constructType(bean));
+            BeanDescriptor.of(mapper, typeFactory.constructCollectionType(List.class, bean));
+
+            // The type factory of the mapper has its own cache
+            typeFactory.clearCache();
+            return new WeakReference<>(loader);
+        }
+    }
+
+    private static <T> T collect(WeakReference<T> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return reference.get();
+    }
+
+    private static final class ChildFirstClassLoader extends URLClassLoader {
+        private final String childFirst;
+
+        private ChildFirstClassLoader(URL classes, String childFirst) {
+            super(new URL[]{classes}, BeanDescriptorTest.class.getClassLoader());
+            this.childFirst = childFirst;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!childFirst.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+}
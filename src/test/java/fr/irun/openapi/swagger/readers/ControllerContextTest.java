@@ -0,0 +1,86 @@
+package fr.irun.openapi.swagger.readers;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+class ControllerContextTest {
+
+    @Test
+    void should_parse_class_responses_once() {
+        ControllerContext tested = new ControllerContext(new GlobalElementReader());
+
+        Optional<ApiResponses> actual = tested.getClassResponses(WithClassResponses.class, null);
+
+        Assertions.assertThat(actual).isPresent();
+        Assertions.assertThat(actual.get()).containsOnlyKeys("404");
+        ApiResponses second = tested.getClassResponses(WithClassResponses.class, null).orElseThrow(AssertionError::new);
+        Assertions.assertThat(second).isEqualTo(actual.get());
+        Assertions.assertThat(mediaType(second.get("404")).getSchema())
+                .isSameAs(mediaType(actual.get().get("404")).getSchema());
+        Assertions.assertThat(tested.getClassResponses(ControllerContextTest.class, null)).isEmpty();
+    }
+
+    @Test
+    void should_give_each_operation_its_own_class_responses() {
+        OpenAPI actual = new SpringOpenApiReader(new OpenAPI()).read(WithClassResponses.class);
+
+        io.swagger.v3.oas.models.responses.ApiResponse first = actual.getPaths().get("/responses/first").getGet()
+                .getResponses().get("404");
+        first.setDescription("Changed");
+        mediaType(first).setExample("changed");
+
+        io.swagger.v3.oas.models.responses.ApiResponse second = actual.getPaths().get("/responses/second").getGet()
+                .getResponses().get("404");
+        Assertions.assertThat(second).isNotSameAs(first);
+        Assertions.assertThat(second.getDescription()).isEqualTo("Not found");
+        Assertions.assertThat(mediaType(second).getExample()).isNull();
+    }
+
+    @Test
+    void should_snapshot_class_elements() {
+        GlobalElementReader globalElementReader = new GlobalElementReader();
+        globalElementReader.getTags().add(new Tag().name("users"));
+        globalElementReader.getServers().add(new Server().url("http://localhost"));
+        ControllerContext tested = new ControllerContext(globalElementReader);
+
+        globalElementReader.getTags().add(new Tag().name("admin"));
+
+        Assertions.assertThat(tested.getTagNames()).containsExactly("users");
+        Assertions.assertThat(tested.getServers()).containsExactly(new Server().url("http://localhost"));
+        Assertions.assertThat(tested.getSecurityRequirements()).isEmpty();
+        Assertions.assertThat(tested.getParameters()).isEmpty();
+    }
+
+    private static MediaType mediaType(io.swagger.v3.oas.models.responses.ApiResponse response) {
+        return response.getContent().values().iterator().next();
+    }
+
+    @RestController
+    @RequestMapping("/responses")
+    @ApiResponse(responseCode = "404", description = "Not found",
+            content = @Content(schema = @Schema(implementation = String.class)))
+    public static final class WithClassResponses {
+        @GetMapping("/first")
+        public String first() {
+            return "first";
+        }
+
+        @GetMapping("/second")
+        public String second() {
+            return "second";
+        }
+    }
+}
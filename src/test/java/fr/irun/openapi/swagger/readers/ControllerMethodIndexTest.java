@@ -0,0 +1,41 @@
+package fr.irun.openapi.swagger.readers;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+class ControllerMethodIndexTest {
+
+    @Test
+    void should_index_controller_methods() throws NoSuchMethodException {
+        Method read = UserController.class.getMethod("read", String.class);
+        Method bridge = UserController.class.getMethod("read", Object.class);
+        Method count = CrudController.class.getMethod("count");
+
+        ControllerMethodIndex actual = ControllerMethodIndex.of(UserController.class);
+
+        Assertions.assertThat(ControllerMethodIndex.of(UserController.class)).isSameAs(actual);
+        Assertions.assertThat(actual.getDeclared()).contains(read, bridge).doesNotContain(count);
+        Assertions.assertThat(actual.getInherited()).containsExactly(count);
+        Assertions.assertThat(actual.getBridges()).containsExactly(bridge);
+        Assertions.assertThat(actual.getCandidates()).containsExactlyInAnyOrder(read, count);
+        Assertions.assertThat(actual.isCandidate(bridge)).isFalse();
+        Assertions.assertThat(actual.isCandidate(UserController.class.getMethod("toString"))).isFalse();
+    }
+
+    public abstract static class CrudController<I> {
+        public abstract String read(I id);
+
+        public int count() {
+            return 0;
+        }
+    }
+
+    public static class UserController extends CrudController<String> {
+        @Override
+        public String read(String id) {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableList;
+import io.swagger.v3.oas.models.Operation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+class ExtensionPipelineTest {
+
+    @Test
+    void should_compile_chain_per_hook() {
+        DecoratingExtension decorating = new DecoratingExtension();
+        DefaultParameterExtension parameters = new DefaultParameterExtension();
+
+        ExtensionPipeline tested = ExtensionPipeline.of(ImmutableList.of(decorating, parameters));
+
+        Assertions.assertThat(tested.getExtensions()).containsExactly(decorating, parameters);
+        Assertions.assertThat(tested.getLast()).isSameAs(parameters);
+        Assertions.assertThat(tested.chain(OpenAPIExtension.Hook.DECORATE_OPERATION)).toIterable().containsExactly(decorating);
+        Assertions.assertThat(tested.chain(OpenAPIExtension.Hook.EXTRACT_PARAMETERS)).toIterable().containsExactly(parameters);
+        Assertions.assertThat(tested.chain(OpenAPIExtension.Hook.EXTRACT_OPERATION_METHOD)).isExhausted();
+    }
+
+    @Test
+    void should_not_be_modified_by_source_list() {
+        List<OpenAPIExtension> extensions = new ArrayList<>();
+        extensions.add(new DecoratingExtension());
+
+        ExtensionPipeline tested = ExtensionPipeline.of(extensions);
+        extensions.add(new DefaultParameterExtension());
+
+        Assertions.assertThat(tested.getExtensions()).hasSize(1);
+        Assertions.assertThat(tested.chain(OpenAPIExtension.Hook.EXTRACT_PARAMETERS)).isExhausted();
+    }
+
+    @Test
+    void should_start_chains_from_pipeline_of_chain() {
+        ExtensionPipeline tested = ExtensionPipeline.of(ImmutableList.of(new DefaultParameterExtension()));
+
+        Assertions.assertThat(ExtensionPipeline.fromChain(tested.chain(OpenAPIExtension.Hook.EXTRACT_PARAMETERS))).isSameAs(tested);
+        Assertions.assertThat(ExtensionPipeline.fromChain(tested.chain(OpenAPIExtension.Hook.DECORATE_OPERATION))).isSameAs(tested);
+        Assertions.assertThat(ExtensionPipeline.fromChain(tested.endOfChain())).isSameAs(tested);
+        Assertions.assertThat(tested.endOfChain()).isExhausted();
+        Assertions.assertThat(ExtensionPipeline.fromChain(null)).isSameAs(OpenAPIExtensions.getPipeline());
+    }
+
+    @Test
+    void should_fail_to_get_last_of_empty_pipeline() {
+        ExtensionPipeline tested = ExtensionPipeline.of(ImmutableList.of());
+
+        Assertions.assertThatThrownBy(tested::getLast).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_swap_global_pipeline() {
+        ExtensionPipeline previous = OpenAPIExtensions.getPipeline();
+        try {
+            DecoratingExtension decorating = new DecoratingExtension();
+            OpenAPIExtensions.setExtensions(ImmutableList.of(decorating));
+
+            Assertions.assertThat(OpenAPIExtensions.getPipeline()).isNotSameAs(previous);
+            Assertions.assertThat(OpenAPIExtensions.getExtensions()).containsExactly(decorating);
+            Assertions.assertThat(previous.getLast()).isInstanceOf(DefaultParameterExtension.class);
+        } finally {
+            OpenAPIExtensions.setExtensions(previous.getExtensions());
+        }
+    }
+
+    @Test
+    void should_compile_pipeline_when_extensions_are_modified() {
+        ExtensionPipeline previous = OpenAPIExtensions.getPipeline();
+        try {
+            DecoratingExtension decorating = new DecoratingExtension();
+            OpenAPIExtensions.getExtensions().add(0, decorating);
+
+            ExtensionPipeline added = OpenAPIExtensions.getPipeline();
+            Assertions.assertThat(added).isNotSameAs(previous);
+            Assertions.assertThat(added.chain(OpenAPIExtension.Hook.DECORATE_OPERATION)).toIterable().containsExactly(decorating);
+            Assertions.assertThat(OpenAPIExtensions.getExtensions()).startsWith(decorating).hasSize(previous.getExtensions().size() + 1);
+            Assertions.assertThat(previous.chain(OpenAPIExtension.Hook.DECORATE_OPERATION)).isExhausted();
+
+            OpenAPIExtensions.getExtensions().remove(decorating);
+
+            Assertions.assertThat(OpenAPIExtensions.getExtensions()).containsExactlyElementsOf(previous.getExtensions());
+            Assertions.assertThat(OpenAPIExtensions.getPipeline().chain(OpenAPIExtension.Hook.DECORATE_OPERATION)).isExhausted();
+        } finally {
+            OpenAPIExtensions.setExtensions(previous.getExtensions());
+        }
+    }
+
+    private static final class DecoratingExtension extends AbstractOpenAPIExtension {
+        @Override
+        public Set<Hook> getHooks() {
+            return EnumSet.of(Hook.DECORATE_OPERATION);
+        }
+
+        @Override
+        public void decorateOperation(Operation operation, Method method, Iterator<OpenAPIExtension> chain) {
+            operation.addExtension("x-decorated", true);
+            super.decorateOperation(operation, method, chain);
+        }
+    }
+}
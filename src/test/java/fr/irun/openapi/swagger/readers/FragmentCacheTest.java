@@ -0,0 +1,177 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.HiddenController;
+import fr.irun.openapi.swagger.samples.RestWithBodyController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+class FragmentCacheTest {
+    private static final Set<Class<?>> CLASSES = ImmutableSet.of(
+            AuthenticationController.class,
+            RestWithBodyController.class,
+            RestWithConsumesController.class,
+            SimpleRestController.class,
+            SimpleRestWithParameters.class,
+            HiddenController.class);
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void should_generate_same_definition_from_cache(int parallelism) {
+        String expected = Json.pretty(new SpringOpenApiReader(baseOpenAPI()).read(CLASSES));
+
+        FragmentCache cold = new FragmentCache(directory);
+        String coldRead = Json.pretty(reader(cold, parallelism).read(CLASSES));
+        FragmentCache warm = new FragmentCache(directory);
+        String warmRead = Json.pretty(reader(warm, parallelism).read(CLASSES));
+
+        Assertions.assertThat(coldRead).isEqualTo(expected);
+        Assertions.assertThat(warmRead).isEqualTo(expected);
+        Assertions.assertThat(cold.getHitCount()).isZero();
+        Assertions.assertThat(warm.getHitCount()).isEqualTo(CLASSES.size() - 1);
+        Assertions.assertThat(warm.getMissCount()).isOne();
+    }
+
+    @Test
+    void should_read_again_when_configuration_changes() {
+        reader(new FragmentCache(directory), 1).read(CLASSES);
+
+        FragmentCache tested = new FragmentCache(directory);
+        SpringOpenApiReader reader = reader(tested, 1);
+        reader.setConfiguration(new SwaggerConfiguration().openAPI(baseOpenAPI()).readAllResources(false));
+        reader.read(CLASSES);
+
+        Assertions.assertThat(tested.getHitCount()).isZero();
+    }
+
+    @Test
+    void should_read_again_when_fragment_is_unreadable() throws IOException {
+        reader(new FragmentCache(directory), 1).read(CLASSES);
+        Files.write(directory.resolve(SimpleRestController.class.getName() + ".json"), "{".getBytes(StandardCharsets.UTF_8));
+
+        FragmentCache tested = new FragmentCache(directory);
+        String actual = Json.pretty(reader(tested, 1).read(CLASSES));
+
+        Assertions.assertThat(actual).isEqualTo(Json.pretty(new SpringOpenApiReader(baseOpenAPI()).read(CLASSES)));
+        Assertions.assertThat(tested.getHitCount()).isEqualTo(CLASSES.size() - 2);
+    }
+
+    @Test
+    void should_read_again_when_referenced_type_changes(@TempDir Path classes) throws Exception {
+        Path packageDirectory = copyClasses(RestWithBodyController.class, classes);
+        reader(new FragmentCache(directory), 1).read(ImmutableSet.of(loadCopy(RestWithBodyController.class, classes)));
+        FragmentCache unchanged = new FragmentCache(directory);
+        reader(unchanged, 1).read(ImmutableSet.of(loadCopy(RestWithBodyController.class, classes)));
+
+        // Same length, the class file stays valid
+        Path form = packageDirectory.resolve("RestWithBodyController$LoginForm.class");
+        String bytecode = new String(Files.readAllBytes(form), StandardCharsets.ISO_8859_1);
+        Files.write(form, bytecode.replace("RestWithBodyController.java", "RestWithBodyController.jav_")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        FragmentCache tested = new FragmentCache(directory);
+        reader(tested, 1).read(ImmutableSet.of(loadCopy(RestWithBodyController.class, classes)));
+
+        Assertions.assertThat(unchanged.getHitCount()).isOne();
+        Assertions.assertThat(tested.getHitCount()).isZero();
+        Assertions.assertThat(tested.getMissCount()).isOne();
+    }
+
+    @Test
+    void should_key_fragment_with_configuration() {
+        FragmentCache tested = new FragmentCache(directory);
+
+        Assertions.assertThat(tested.key(SimpleRestController.class, "a"))
+                .isEqualTo(tested.key(SimpleRestController.class, "a"))
+                .isEqualTo(new FragmentCache(directory).key(SimpleRestController.class, "a"))
+                .isNotEqualTo(tested.key(SimpleRestController.class, "b"))
+                .isNotEqualTo(tested.key(RestWithBodyController.class, "a"))
+                .isNotEqualTo(new FragmentCache(directory, "2").key(SimpleRestController.class, "a"));
+    }
+
+    private static SpringOpenApiReader reader(FragmentCache fragmentCache, int parallelism) {
+        SpringOpenApiReader reader = new SpringOpenApiReader(baseOpenAPI());
+        reader.setParallelism(parallelism);
+        reader.setFragmentCache(fragmentCache);
+        return reader;
+    }
+
+    private static OpenAPI baseOpenAPI() {
+        return new OpenAPI().info(new Info().title("Rocket").version("1.0"));
+    }
+
+    /**
+     * Copy the class files of a class and of its nested classes.
+     *
+     * @return The directory of the copied class files
+     */
+    private static Path copyClasses(Class<?> type, Path classes) throws IOException, URISyntaxException {
+        Path source = Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String packagePath = type.getPackage().getName().replace('.', '/');
+        Path target = Files.createDirectories(classes.resolve(packagePath));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source.resolve(packagePath), type.getSimpleName() + "*.class")) {
+            for (Path file : files) {
+                Files.copy(file, target.resolve(file.getFileName().toString()));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Load a class, and its nested classes, from the copied class files, as a new version of the class.
+     */
+    private static Class<?> loadCopy(Class<?> type, Path classes) throws ClassNotFoundException, MalformedURLException {
+        return new CopyClassLoader(classes.toUri().toURL(), type.getName()).loadClass(type.getName());
+    }
+
+    private static final class CopyClassLoader extends URLClassLoader {
+        private final String className;
+
+        private CopyClassLoader(URL classes, String className) {
+            super(new URL[]{classes}, FragmentCacheTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            URL copy = name.startsWith(className.replace('.', '/')) ? findResource(name) : null;
+            return copy != null ? copy : super.getResource(name);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package fr.irun.openapi.swagger.readers;
+
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measure the cost of the method annotations for each operation of {@link SimpleRestWithParameters}.</p>
+ * <p>Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes allocated per operation.
+ * {@link #resolveDescriptor()} is the annotation resolution the reader did on each read before the cache,
+ * {@link #cachedDescriptor()} is the lookup it does now, and {@link #readOperation()} the whole read.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MethodDescriptorBenchmark {
+    private static final int OPERATIONS = 6;
+
+    private final Method[] methods = Arrays.stream(SimpleRestWithParameters.class.getDeclaredMethods())
+            .filter(method -> !method.isSynthetic())
+            .toArray(Method[]::new);
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void resolveDescriptor(Blackhole blackhole) {
+        for (Method method : methods) {
+            blackhole.consume(MethodDescriptor.resolve(method));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void cachedDescriptor(Blackhole blackhole) {
+        for (Method method : methods) {
+            blackhole.consume(MethodDescriptor.of(method));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public OpenAPI readOperation() {
+        return new SpringOpenApiReader(new OpenAPI()).read(SimpleRestWithParameters.class);
+    }
+}
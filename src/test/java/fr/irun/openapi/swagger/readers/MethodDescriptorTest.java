@@ -0,0 +1,54 @@
+package fr.irun.openapi.swagger.readers;
+
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+class MethodDescriptorTest {
+
+    @Test
+    void should_cache_descriptor_by_method() throws NoSuchMethodException {
+        Method method = SimpleRestWithParameters.class.getMethod("parameterWithoutAnnotation", String.class);
+        Method copy = SimpleRestWithParameters.class.getMethod("parameterWithoutAnnotation", String.class);
+
+        Assertions.assertThat(MethodDescriptor.of(method)).isSameAs(MethodDescriptor.of(copy));
+    }
+
+    @Test
+    void should_resolve_method_annotations() throws NoSuchMethodException {
+        Method method = SimpleRestWithParameters.class.getMethod("parameterWithoutAnnotation", String.class);
+
+        MethodDescriptor actual = MethodDescriptor.of(method);
+
+        Assertions.assertThat(actual.getMethod()).isEqualTo(method);
+        Assertions.assertThat(actual.getOperation()).isNull();
+        Assertions.assertThat(actual.isHidden()).isFalse();
+        Assertions.assertThat(actual.getRequestMapping().value())
+                .containsExactly("/parameterWithoutAnnotation/{propertyPath}");
+        Assertions.assertThat(actual.getTags()).isEmpty();
+        Assertions.assertThat(actual.getApiResponses()).isEmpty();
+        Assertions.assertThat(actual.getCallbacks()).isEmpty();
+    }
+
+    @Test
+    void should_resolve_parameter_annotations() throws NoSuchMethodException {
+        Method method = SimpleRestWithParameters.class.getMethod("parameterWithAnnotation", String.class);
+
+        MethodDescriptor.ParameterDescriptor actual = MethodDescriptor.of(method).getParameters().get(0);
+
+        Assertions.assertThat(actual.getType().getTypeName()).contains(String.class.getName());
+        Assertions.assertThat(actual.getApiParameter().description()).isEqualTo("The user name for login");
+        Assertions.assertThat(actual.getAnnotations())
+                .extracting(Annotation::annotationType)
+                .containsOnly(PathVariable.class, Parameter.class);
+        Assertions.assertThat(actual.getAnnotations())
+                .filteredOn(a -> a instanceof PathVariable)
+                .extracting(a -> ((PathVariable) a).value())
+                .containsExactly(actual.getParameter().getName());
+    }
+}
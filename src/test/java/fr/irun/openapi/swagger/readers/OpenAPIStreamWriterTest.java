@@ -0,0 +1,100 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.HiddenController;
+import fr.irun.openapi.swagger.samples.RestWithBodyController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class OpenAPIStreamWriterTest {
+    private static final Set<Class<?>> CLASSES = ImmutableSet.of(
+            AuthenticationController.class,
+            RestWithBodyController.class,
+            RestWithConsumesController.class,
+            SimpleRestController.class,
+            SimpleRestWithParameters.class,
+            HiddenController.class);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void should_write_json_as_tree_serializer(int parallelism) throws IOException {
+        JsonNode expected = Json.mapper().readTree(Json.pretty(new SpringOpenApiReader(baseOpenAPI()).read(CLASSES)));
+
+        SpringOpenApiReader reader = new SpringOpenApiReader(baseOpenAPI());
+        reader.setParallelism(parallelism);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OpenAPI remaining = OpenAPIStreamWriter.json(true).write(reader, CLASSES, out);
+
+        Assertions.assertThat(Json.mapper().readTree(out.toByteArray())).isEqualTo(expected);
+        Assertions.assertThat(remaining.getPaths()).containsOnlyKeys("/base");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void should_write_paths_rewritten_by_listeners(int parallelism) throws IOException {
+        Set<Class<?>> classes = Stream.concat(CLASSES.stream(), Stream.of(PathRewritingListener.class))
+                .collect(Collectors.toSet());
+        JsonNode expected = Json.mapper().readTree(Json.pretty(new SpringOpenApiReader(baseOpenAPI()).read(classes)));
+
+        SpringOpenApiReader reader = new SpringOpenApiReader(baseOpenAPI());
+        reader.setParallelism(parallelism);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OpenAPIStreamWriter.json(true).write(reader, classes, out);
+
+        JsonNode actual = Json.mapper().readTree(out.toByteArray());
+        Assertions.assertThat(actual).isEqualTo(expected);
+        Assertions.assertThat(actual.path("paths").path("/login").path("description").asText()).isEqualTo("rewritten");
+        Assertions.assertThat(actual.path("paths").has("/added")).isTrue();
+    }
+
+    @Test
+    void should_write_yaml_as_tree_serializer() throws IOException {
+        JsonNode expected = Yaml.mapper().readTree(Yaml.pretty(new SpringOpenApiReader(new OpenAPI()).read(CLASSES)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OpenAPIStreamWriter.yaml().write(new SpringOpenApiReader(new OpenAPI()), CLASSES, out);
+
+        Assertions.assertThat(Yaml.mapper().readTree(out.toByteArray())).isEqualTo(expected);
+    }
+
+    private static OpenAPI baseOpenAPI() {
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Streamed").version("1"))
+                .paths(new Paths().addPathItem("/base", new PathItem().get(new Operation().operationId("base"))));
+        openAPI.addExtension("x-origin", "test");
+        return openAPI;
+    }
+
+    public static final class PathRewritingListener implements ReaderListener {
+        @Override
+        public void beforeScan(OpenApiReader reader, OpenAPI openAPI) {
+        }
+
+        @Override
+        public void afterScan(OpenApiReader reader, OpenAPI openAPI) {
+            openAPI.getPaths().values().forEach(pathItem -> pathItem.setDescription("rewritten"));
+            openAPI.getPaths().addPathItem("/added", new PathItem().get(new Operation().operationId("added")));
+        }
+    }
+}
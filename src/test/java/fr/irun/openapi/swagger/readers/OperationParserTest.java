@@ -6,6 +6,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -48,6 +49,22 @@ class OperationParserTest {
                 ));
     }
 
+    @Test
+    void should_not_modify_merged_api_responses() {
+        ApiResponse shared = new ApiResponse().description("Description Default");
+        ApiResponses classResponses = new ApiResponses().addApiResponse(ApiResponses.DEFAULT, shared);
+        ApiResponses extracted = new ApiResponses().addApiResponse(ApiResponses.DEFAULT, new ApiResponse()
+                .content(new Content().addMediaType(MediaType.APPLICATION_JSON_VALUE, new io.swagger.v3.oas.models.media.MediaType()
+                        .schema(new Schema<>().name("String")))));
+
+        ApiResponses actual = OperationParser.mergeApiResponses(classResponses, extracted);
+
+        Assertions.assertThat(actual.get(ApiResponses.DEFAULT).getContent()).containsKey(MediaType.APPLICATION_JSON_VALUE);
+        Assertions.assertThat(actual.get(ApiResponses.DEFAULT).getDescription()).isEqualTo("Description Default");
+        Assertions.assertThat(shared.getContent()).isNull();
+        Assertions.assertThat(classResponses).containsOnlyKeys(ApiResponses.DEFAULT);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "/, /, true",
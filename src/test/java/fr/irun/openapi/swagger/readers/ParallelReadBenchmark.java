@@ -0,0 +1,106 @@
+package fr.irun.openapi.swagger.readers;
+
+import fr.irun.openapi.swagger.SyntheticClasspath;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Read 200 synthetic controllers with an increasing number of threads.</p>
+ * <p>Each controller has 4 operations and its own models, so the fragments are about the same size. The scaling is
+ * bounded by the processors of the machine and by the merge of the fragments, which stays sequential.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParallelReadBenchmark {
+    private static final int CONTROLLERS = 200;
+    private static final String PACKAGE = "bench.read";
+
+    @Param({"1", "4", "16", "32"})
+    public int parallelism;
+
+    private Path workDirectory;
+    private URLClassLoader classLoader;
+    private Set<Class<?>> classes;
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+        workDirectory = Files.createTempDirectory("parallel-read");
+        SyntheticClasspath classpath = new SyntheticClasspath();
+        for (int c = 0; c < CONTROLLERS; c++) {
+            classpath.add(PACKAGE, "Item" + c, "public class Item" + c + " {\n"
+                    + "  public String reference;\n"
+                    + "  public int quantity;\n"
+                    + "  public java.time.Instant updated;\n"
+                    + "}");
+            classpath.add(PACKAGE, "Resource" + c, "public class Resource" + c + " {\n"
+                    + "  public String id;\n"
+                    + "  public String name;\n"
+                    + "  public java.util.List<Item" + c + "> items;\n"
+                    + "  public java.util.Map<String, String> attributes;\n"
+                    + "}");
+            classpath.add(PACKAGE, "Controller" + c, "@org.springframework.web.bind.annotation.RestController\n"
+                    + "@org.springframework.web.bind.annotation.RequestMapping(\"/resources" + c + "\")\n"
+                    + "public class Controller" + c + " {\n"
+                    + "  @org.springframework.web.bind.annotation.GetMapping\n"
+                    + "  public reactor.core.publisher.Flux<Resource" + c + "> list("
+                    + "@org.springframework.web.bind.annotation.RequestParam(required = false) String name) {"
+                    + " return null; }\n"
+                    + "  @io.swagger.v3.oas.annotations.Operation(summary = \"Get a resource\")\n"
+                    + "  @org.springframework.web.bind.annotation.GetMapping(\"/{id}\")\n"
+                    + "  public reactor.core.publisher.Mono<Resource" + c + "> get("
+                    + "@org.springframework.web.bind.annotation.PathVariable String id) { return null; }\n"
+                    + "  @org.springframework.web.bind.annotation.PostMapping\n"
+                    + "  public reactor.core.publisher.Mono<Resource" + c + "> create("
+                    + "@org.springframework.web.bind.annotation.RequestBody Resource" + c + " resource) {"
+                    + " return null; }\n"
+                    + "  @org.springframework.web.bind.annotation.PutMapping(\"/{id}/items\")\n"
+                    + "  public reactor.core.publisher.Mono<Item" + c + "> addItem("
+                    + "@org.springframework.web.bind.annotation.PathVariable String id,"
+                    + " @org.springframework.web.bind.annotation.RequestBody Item" + c + " item) { return null; }\n"
+                    + "}");
+        }
+        Path output = classpath.compile(workDirectory.resolve("classes"));
+        classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        classes = new HashSet<>();
+        for (int c = 0; c < CONTROLLERS; c++) {
+            classes.add(Class.forName(PACKAGE + ".Controller" + c, false, classLoader));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        SyntheticClasspath.delete(workDirectory);
+    }
+
+    @Benchmark
+    public OpenAPI read() {
+        SpringOpenApiReader reader = new SpringOpenApiReader(new OpenAPI());
+        reader.setParallelism(parallelism);
+        return reader.read(classes);
+    }
+}
@@ -0,0 +1,184 @@
+package fr.irun.openapi.swagger.readers;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.RestWithBodyController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ReactiveOpenApiReaderTest {
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Test
+    void should_generate_definition_in_background() {
+        ReactiveOpenApiReader tested = ReactiveOpenApiReader.of(
+                new SpringOpenApiReader(new OpenAPI()), ImmutableSet.of(SimpleRestController.class), null);
+        Assertions.assertThat(tested.getState()).isEqualTo(ReactiveOpenApiReader.State.PENDING);
+
+        OpenAPI actual = tested.start().get().block(WAIT);
+
+        Assertions.assertThat(actual.getPaths()).containsKey("/listStringsWithAnyAnnotations");
+        Assertions.assertThat(tested.isReady()).isTrue();
+    }
+
+    @Test
+    void should_share_generation_between_subscribers() throws InterruptedException {
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        OpenAPI expected = new OpenAPI();
+        ReactiveOpenApiReader tested = new ReactiveOpenApiReader(() -> {
+            generations.incrementAndGet();
+            release.await();
+            return expected;
+        }, Schedulers.boundedElastic(), null);
+
+        CountDownLatch received = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            tested.get().subscribe(openAPI -> received.countDown());
+        }
+        Assertions.assertThat(tested.getState()).isEqualTo(ReactiveOpenApiReader.State.GENERATING);
+        release.countDown();
+
+        Assertions.assertThat(received.await(WAIT.getSeconds(), TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(tested.get().block(WAIT)).isSameAs(expected);
+        Assertions.assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void should_interrupt_generation_on_cancel() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ReactiveOpenApiReader tested = new ReactiveOpenApiReader(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new OpenAPI();
+        }, Schedulers.boundedElastic(), null);
+
+        tested.start();
+        Assertions.assertThat(started.await(WAIT.getSeconds(), TimeUnit.SECONDS)).isTrue();
+        tested.cancel();
+
+        Assertions.assertThat(interrupted.await(WAIT.getSeconds(), TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(tested.getState()).isEqualTo(ReactiveOpenApiReader.State.CANCELLED);
+        Assertions.assertThatThrownBy(() -> tested.get().block(WAIT)).isInstanceOf(CancellationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void should_stop_reading_classes_on_cancel(int parallelism) throws InterruptedException {
+        Set<Class<?>> classes = ImmutableSet.of(
+                AuthenticationController.class,
+                RestWithBodyController.class,
+                RestWithConsumesController.class,
+                SimpleRestController.class,
+                SimpleRestWithParameters.class);
+        SpringOpenApiReader reader = new SpringOpenApiReader(new OpenAPI());
+        reader.setParallelism(parallelism);
+        BlockingExtension blocking = new BlockingExtension();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch stopped = new CountDownLatch(1);
+        ReactiveOpenApiReader tested = new ReactiveOpenApiReader(() -> {
+            try {
+                return reader.read(classes);
+            } catch (RuntimeException e) {
+                error.set(e);
+                throw e;
+            } finally {
+                stopped.countDown();
+            }
+        }, Schedulers.boundedElastic(), null);
+
+        ExtensionPipeline previous = OpenAPIExtensions.getPipeline();
+        OpenAPIExtensions.setExtensions(ImmutableList.<OpenAPIExtension>builder()
+                .add(blocking).addAll(previous.getExtensions()).build());
+        try {
+            tested.start();
+            Assertions.assertThat(blocking.started.await(WAIT.getSeconds(), TimeUnit.SECONDS)).isTrue();
+            tested.cancel();
+            Assertions.assertThat(stopped.await(WAIT.getSeconds(), TimeUnit.SECONDS)).isTrue();
+        } finally {
+            OpenAPIExtensions.setExtensions(previous.getExtensions());
+        }
+
+        Assertions.assertThat(error.get()).isInstanceOf(CancellationException.class);
+        Assertions.assertThat(blocking.decorated).hasValueLessThanOrEqualTo(parallelism);
+        Assertions.assertThat(reader.getOpenAPI().getPaths()).isNull();
+        Assertions.assertThat(reader.getOpenAPI().getComponents()).isNull();
+        Assertions.assertThat(reader.getOpenAPI().getTags()).isNull();
+    }
+
+    @Test
+    void should_never_start_when_cancelled_before() {
+        AtomicInteger generations = new AtomicInteger();
+        ReactiveOpenApiReader tested = new ReactiveOpenApiReader(() -> {
+            generations.incrementAndGet();
+            return new OpenAPI();
+        }, Schedulers.boundedElastic(), null);
+
+        tested.cancel();
+
+        Assertions.assertThatThrownBy(() -> tested.get().block(WAIT)).isInstanceOf(CancellationException.class);
+        Assertions.assertThat(generations).hasValue(0);
+    }
+
+    @Test
+    void should_fail_when_time_budget_exceeded() {
+        ReactiveOpenApiReader tested = new ReactiveOpenApiReader(() -> {
+            new CountDownLatch(1).await();
+            return new OpenAPI();
+        }, Schedulers.boundedElastic(), Duration.ofMillis(50));
+
+        Assertions.assertThatThrownBy(() -> tested.get().block(WAIT)).hasCauseInstanceOf(TimeoutException.class);
+        Assertions.assertThat(tested.getState()).isEqualTo(ReactiveOpenApiReader.State.FAILED);
+    }
+
+    /**
+     * Block each operation until the thread is interrupted.
+     */
+    private static final class BlockingExtension extends AbstractOpenAPIExtension {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final AtomicInteger decorated = new AtomicInteger();
+
+        @Override
+        public Set<Hook> getHooks() {
+            return EnumSet.of(Hook.DECORATE_OPERATION);
+        }
+
+        @Override
+        public void decorateOperation(Operation operation, Method method, Iterator<OpenAPIExtension> chain) {
+            decorated.incrementAndGet();
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
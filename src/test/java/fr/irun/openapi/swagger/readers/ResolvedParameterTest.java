@@ -0,0 +1,50 @@
+package fr.irun.openapi.swagger.readers;
+
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ResolvedParameterTest {
+
+    @Test
+    void should_build_empty_singleton() {
+        Assertions.assertThat(ResolvedParameter.builder().build()).isSameAs(ResolvedParameter.EMPTY);
+        Assertions.assertThat(ResolvedParameter.EMPTY.isEmpty()).isTrue();
+    }
+
+    @Test
+    void should_build_immutable_parameters() {
+        Parameter query = new Parameter().in("query").name("q");
+        Parameter form = new Parameter().name("f");
+        Parameter body = new Parameter().name("body");
+
+        ResolvedParameter actual = ResolvedParameter.builder()
+                .parameter(query)
+                .formParameter(form)
+                .requestBody(body)
+                .build();
+
+        Assertions.assertThat(actual.getParameters()).containsExactly(query);
+        Assertions.assertThat(actual.getFormParameters()).containsExactly(form);
+        Assertions.assertThat(actual.getRequestBody()).isSameAs(body);
+        Assertions.assertThatThrownBy(() -> actual.getParameters().add(new Parameter()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> ResolvedParameter.EMPTY.getFormParameters().add(new Parameter()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_copy_lists_given_to_constructor() {
+        List<Parameter> parameters = new ArrayList<>();
+        parameters.add(new Parameter().name("a"));
+
+        ResolvedParameter actual = new ResolvedParameter(parameters, null, new ArrayList<>());
+        parameters.add(new Parameter().name("b"));
+
+        Assertions.assertThat(actual.getParameters()).extracting(Parameter::getName).containsExactly("a");
+        Assertions.assertThat(actual).isEqualTo(ResolvedParameter.builder().parameter(new Parameter().name("a")).build());
+    }
+}
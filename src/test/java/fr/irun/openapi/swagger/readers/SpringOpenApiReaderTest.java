@@ -1,20 +1,44 @@
 package fr.irun.openapi.swagger.readers;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.HiddenController;
+import fr.irun.openapi.swagger.samples.RestWithBodyController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
 import fr.irun.openapi.swagger.samples.SimpleRestController;
 import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static fr.irun.openapi.swagger.readers.SpringOpenApiReader.DEFAULT_DESCRIPTION;
 import static fr.irun.openapi.swagger.readers.SpringOpenApiReader.DEFAULT_MEDIA_TYPE_VALUE;
@@ -73,4 +97,192 @@ class SpringOpenApiReaderTest {
         Assertions.assertThat(content.keySet()).containsExactly(mediaType);
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 16})
+    void should_read_classes_in_parallel_as_sequentially(int parallelism) {
+        Set<Class<?>> classes = ImmutableSet.of(
+                AuthenticationController.class,
+                RestWithBodyController.class,
+                RestWithConsumesController.class,
+                SimpleRestController.class,
+                SimpleRestWithParameters.class,
+                HiddenController.class);
+        String expected = Json.pretty(tested.read(classes));
+
+        SpringOpenApiReader parallel = new SpringOpenApiReader(new OpenAPI());
+        parallel.setParallelism(parallelism);
+        String actual = Json.pretty(parallel.read(classes));
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 16})
+    void should_read_many_classes_in_parallel_as_sequentially(int parallelism) {
+        Set<Class<?>> classes = ImmutableSet.<Class<?>>builder()
+                .add(AuthenticationController.class, RestWithBodyController.class, RestWithConsumesController.class,
+                        SimpleRestController.class, SimpleRestWithParameters.class, HiddenController.class)
+                .add(CustomersController.class, InvoicesController.class, OrdersController.class,
+                        ProductsController.class, ShipmentsController.class, StocksController.class)
+                .build();
+        String expected = Json.pretty(new SpringOpenApiReader(new OpenAPI()).read(classes));
+
+        for (int i = 0; i < 20; i++) {
+            SpringOpenApiReader parallel = new SpringOpenApiReader(new OpenAPI());
+            parallel.setParallelism(parallelism);
+            String actual = Json.pretty(parallel.read(classes));
+
+            Assertions.assertThat(actual).as("read #%d", i).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_keep_tags_added_between_reads() {
+        OpenAPI first = tested.read(AuthenticationController.class);
+        first.addTagsItem(new Tag().name("added"));
+        first.getTags().add(new Tag().name("appended"));
+
+        OpenAPI actual = tested.read(SimpleRestController.class);
+
+        Assertions.assertThat(actual.getTags())
+                .extracting(Tag::getName)
+                .contains("security", "added", "appended");
+    }
+
+    @Test
+    void should_not_modify_base_openapi() {
+        Operation baseOperation = new Operation().operationId("base");
+        PathItem basePathItem = new PathItem().put(baseOperation);
+        Map<String, Header> baseHeaders = ImmutableMap.of("X-Base", new Header().description("base header"));
+        OpenAPI base = new OpenAPI()
+                .paths(new Paths().addPathItem("/listStringsWithAnyAnnotations", basePathItem))
+                .components(new Components().headers(baseHeaders))
+                .tags(ImmutableList.of(new Tag().name("base")));
+        String expected = Json.pretty(base);
+
+        OpenAPI actual = new SpringOpenApiReader(base).read(SimpleRestController.class);
+
+        Assertions.assertThat(Json.pretty(base)).isEqualTo(expected);
+        Assertions.assertThat(actual).isNotSameAs(base);
+        Assertions.assertThat(actual.getPaths().get("/listStringsWithAnyAnnotations").getPut()).isSameAs(baseOperation);
+        Assertions.assertThat(actual.getPaths().get("/listStringsWithAnyAnnotations").getGet()).isNotNull();
+        Assertions.assertThat(basePathItem.getGet()).isNull();
+        Assertions.assertThat(actual.getComponents().getHeaders()).isSameAs(baseHeaders);
+        Assertions.assertThat(actual.getComponents().getSchemas()).isNotEmpty();
+    }
+
+    public static final class Item {
+        public String reference;
+        public int quantity;
+        public Map<String, String> attributes;
+    }
+
+    public static final class Document {
+        public String id;
+        public List<Item> items;
+    }
+
+    @RestController
+    @RequestMapping("/customers")
+    public static final class CustomersController {
+        @GetMapping
+        public List<Document> list() {
+            return ImmutableList.of();
+        }
+
+        @GetMapping("/{id}")
+        public Document get(@PathVariable String id) {
+            return new Document();
+        }
+
+        @PostMapping
+        public Document create(@RequestBody Document document) {
+            return document;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/invoices")
+    public static final class InvoicesController {
+        @GetMapping
+        public List<Document> list() {
+            return ImmutableList.of();
+        }
+
+        @GetMapping("/{id}")
+        public Document get(@PathVariable String id) {
+            return new Document();
+        }
+
+        @GetMapping("/{id}/items")
+        public List<Item> items(@PathVariable String id) {
+            return ImmutableList.of();
+        }
+    }
+
+    @RestController
+    @RequestMapping("/orders")
+    public static final class OrdersController {
+        @GetMapping
+        public List<Document> list() {
+            return ImmutableList.of();
+        }
+
+        @PostMapping
+        public Document create(@RequestBody Document document) {
+            return document;
+        }
+
+        @PostMapping("/{id}/items")
+        public Item items(@PathVariable String id, @RequestBody Item item) {
+            return item;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/products")
+    public static final class ProductsController {
+        @GetMapping("/{id}")
+        public Item get(@PathVariable String id) {
+            return new Item();
+        }
+
+        @GetMapping
+        public Map<String, Item> list() {
+            return ImmutableMap.of();
+        }
+    }
+
+    @RestController
+    @RequestMapping("/shipments")
+    public static final class ShipmentsController {
+        @GetMapping
+        public List<Document> list() {
+            return ImmutableList.of();
+        }
+
+        @GetMapping("/{id}")
+        public Document get(@PathVariable String id) {
+            return new Document();
+        }
+
+        @PostMapping
+        public Document create(@RequestBody Document document) {
+            return document;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/stocks")
+    public static final class StocksController {
+        @GetMapping("/{id}")
+        public Item get(@PathVariable String id) {
+            return new Item();
+        }
+
+        @PostMapping("/{id}")
+        public Item create(@PathVariable String id, @RequestBody Item item) {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package fr.irun.openapi.swagger.samples;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Hidden
+@RestController
+public class HiddenController {
+    static {
+        InitializationTracker.INITIALIZED.add(HiddenController.class.getName());
+    }
+
+    @GetMapping("/hidden")
+    public Mono<String> hidden() {
+        return Mono.just("hidden");
+    }
+}
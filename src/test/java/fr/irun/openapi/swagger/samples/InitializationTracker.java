@@ -0,0 +1,11 @@
+package fr.irun.openapi.swagger.samples;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InitializationTracker {
+    public static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+    private InitializationTracker() {
+    }
+}
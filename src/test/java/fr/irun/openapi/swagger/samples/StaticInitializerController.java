@@ -0,0 +1,17 @@
+package fr.irun.openapi.swagger.samples;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+public class StaticInitializerController {
+    static {
+        InitializationTracker.INITIALIZED.add(StaticInitializerController.class.getName());
+    }
+
+    @GetMapping("/initialized")
+    public Mono<String> initialized() {
+        return Mono.just("initialized");
+    }
+}
@@ -0,0 +1,57 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+class ClassOrderingTest {
+
+    @Test
+    void should_sort_supertypes_first_then_by_name() {
+        List<Class<?>> classes = new ArrayList<>(ImmutableList.of(
+                Zeta.class, Child.class, Alpha.class, Base.class, Marker.class, GrandChild.class));
+
+        ImmutableList<Class<?>> actual = ClassOrdering.supertypesFirst(classes);
+
+        Assertions.assertThat(actual).containsExactly(
+                Alpha.class, Base.class, Marker.class, Child.class, GrandChild.class, Zeta.class);
+    }
+
+    @Test
+    void should_not_depend_on_input_order() {
+        List<Class<?>> classes = new ArrayList<>(ImmutableList.of(
+                Zeta.class, Child.class, Alpha.class, Base.class, Marker.class, GrandChild.class, Serializable.class));
+        ImmutableList<Class<?>> expected = ClassOrdering.supertypesFirst(classes);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            Collections.shuffle(classes, random);
+            Assertions.assertThat(ClassOrdering.supertypesFirst(classes)).isEqualTo(expected);
+        }
+        Assertions.assertThat(expected.indexOf(Serializable.class)).isLessThan(expected.indexOf(Zeta.class));
+    }
+
+    interface Marker {
+    }
+
+    static class Alpha {
+    }
+
+    static class Base {
+    }
+
+    static class Child extends Base implements Marker {
+    }
+
+    static class GrandChild extends Child {
+    }
+
+    static class Zeta extends Alpha implements Serializable {
+    }
+}
@@ -0,0 +1,75 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.io.ByteStreams;
+import fr.irun.openapi.swagger.exceptions.RocketSwaggerException;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+class ClassReferencesTest {
+
+    @Test
+    void should_find_referenced_types() throws IOException {
+        Assertions.assertThat(ClassReferences.of(bytecode(Referencing.class))).contains(
+                "fr/irun/openapi/swagger/utils/ClassReferencesTest$Referencing",
+                "java/math/BigDecimal",
+                "java/time/Instant",
+                "java/util/List",
+                "java/util/Map",
+                "reactor/core/publisher/Flux",
+                "reactor/core/publisher/Mono",
+                "fr/irun/openapi/swagger/utils/ClassReferencesTest$Field",
+                "fr/irun/openapi/swagger/utils/ClassReferencesTest$Parameter",
+                "fr/irun/openapi/swagger/utils/ClassReferencesTest$Returned",
+                "fr/irun/openapi/swagger/utils/ClassReferencesTest$Implementation");
+    }
+
+    @Test
+    void should_reject_other_content() {
+        Assertions.assertThatThrownBy(() -> ClassReferences.of(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}))
+                .isInstanceOf(RocketSwaggerException.class);
+    }
+
+    private static byte[] bytecode(Class<?> cls) throws IOException {
+        try (InputStream in = cls.getResourceAsStream("/" + cls.getName().replace('.', '/') + ".class")) {
+            return ByteStreams.toByteArray(in);
+        }
+    }
+
+    static final class Field {
+    }
+
+    static final class Parameter {
+    }
+
+    static final class Returned {
+    }
+
+    static final class Implementation {
+    }
+
+    @SuppressWarnings("unused")
+    static final class Referencing {
+        private Map<String, List<Field>> fields;
+        private BigDecimal amount;
+        private long[] numbers;
+
+        public Mono<Returned> get(Flux<Parameter> parameters, Instant at) {
+            return Mono.empty();
+        }
+
+        @Schema(implementation = Implementation.class)
+        public Object annotated() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Merge the components of 100 classes into a definition already holding up to 10,000 schemas.</p>
+ * <p>{@link #mergeInPlace()} is the {@link ComponentsRegistry} used by the reader, {@link #mergeByCopy()} is the
+ * previous merge of the whole definition for each class, with {@link OpenAPIComponentsHelper#mergeAllComponents}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ComponentsMergeBenchmark {
+    private static final int CLASSES = 100;
+    private static final int SCHEMAS_PER_CLASS = 5;
+
+    @Param({"100", "1000", "10000"})
+    public int schemas;
+
+    private Map<String, Schema> existing;
+    private List<Components> classComponents;
+    private ComponentsRegistry registry;
+
+    @Setup
+    public void setUp() {
+        existing = new LinkedHashMap<>();
+        for (int s = 0; s < schemas; s++) {
+            existing.put("Existing" + s, new Schema<>().type("object").addProperties("name", new StringSchema()));
+        }
+        classComponents = new ArrayList<>();
+        for (int c = 0; c < CLASSES; c++) {
+            Map<String, Schema> read = new LinkedHashMap<>();
+            for (int s = 0; s < SCHEMAS_PER_CLASS; s++) {
+                read.put("Class" + c + "Schema" + s, new Schema<>().type("object").addProperties("id", new StringSchema()));
+            }
+            classComponents.add(new Components().schemas(read));
+        }
+    }
+
+    /**
+     * The registry copies the map of the definition on its first write, done here to only measure the merges.
+     */
+    @Setup(Level.Invocation)
+    public void newRegistry() {
+        registry = new ComponentsRegistry(new Components().schemas(existing));
+        registry.merge(OpenAPIComponentsHelper.SCHEMAS, ImmutableMap.of("First", new StringSchema()));
+    }
+
+    @Benchmark
+    public Components mergeInPlace() {
+        for (Components components : classComponents) {
+            registry.merge(components);
+        }
+        return registry.getComponents();
+    }
+
+    @Benchmark
+    public Components mergeByCopy() {
+        Components merged = new Components().schemas(existing);
+        for (Components components : classComponents) {
+            merged = OpenAPIComponentsHelper.mergeAllComponents(merged, components);
+        }
+        return merged;
+    }
+}
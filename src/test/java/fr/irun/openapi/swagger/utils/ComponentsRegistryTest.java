@@ -0,0 +1,68 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class ComponentsRegistryTest {
+
+    @Test
+    void should_merge_components_in_place() {
+        Components components = new Components()
+                .schemas(ImmutableMap.of("schema1", new Schema<String>().description("schem 1")));
+        ComponentsRegistry tested = new ComponentsRegistry(components);
+
+        tested.merge(new Components()
+                .schemas(ImmutableMap.of("schema2", new Schema<String>().description("schem 2")))
+                .headers(ImmutableMap.of("header1", new Header().description("header 1"))));
+
+        Assertions.assertThat(tested.getComponents()).isSameAs(components);
+        Assertions.assertThat(components.getSchemas()).containsOnlyKeys("schema1", "schema2");
+        Assertions.assertThat(components.getHeaders()).containsOnlyKeys("header1");
+    }
+
+    @Test
+    void should_return_only_new_or_changed_entries() {
+        ComponentsRegistry tested = new ComponentsRegistry(new Components()
+                .schemas(ImmutableMap.of(
+                        "schema1", new Schema<String>().description("schem 1"),
+                        "schema2", new Schema<String>().description("schem 2"))));
+
+        Components actual = tested.merge(new Components()
+                .schemas(ImmutableMap.of(
+                        "schema1", new Schema<String>().description("schem 1"),
+                        "schema2", new Schema<String>().description("changed"),
+                        "schema3", new Schema<String>().description("schem 3"))));
+
+        Assertions.assertThat(actual.getSchemas()).containsOnlyKeys("schema2", "schema3");
+        Assertions.assertThat(actual.getHeaders()).isNull();
+        Assertions.assertThat(tested.getComponents().getSchemas().get("schema2").getDescription())
+                .isEqualTo("changed");
+    }
+
+    @Test
+    void should_not_modify_merged_maps() {
+        Map<String, Schema> schemas = ImmutableMap.of("schema1", new Schema<String>().description("schem 1"));
+        ComponentsRegistry tested = new ComponentsRegistry(new Components().schemas(schemas));
+
+        tested.merge(OpenAPIComponentsHelper.SCHEMAS, ImmutableMap.of("schema2", new Schema<String>()));
+        tested.merge(OpenAPIComponentsHelper.SCHEMAS, ImmutableMap.of("schema3", new Schema<String>()));
+
+        Assertions.assertThat(schemas).containsOnlyKeys("schema1");
+        Assertions.assertThat(tested.getComponents().getSchemas()).containsOnlyKeys("schema1", "schema2", "schema3");
+    }
+
+    @Test
+    void should_ignore_null_or_empty() {
+        ComponentsRegistry tested = new ComponentsRegistry(new Components());
+
+        Assertions.assertThat(tested.merge(null)).isEqualTo(new Components());
+        Assertions.assertThat(tested.merge(OpenAPIComponentsHelper.SCHEMAS, null)).isEmpty();
+        Assertions.assertThat(tested.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package fr.irun.openapi.swagger.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Check the paths of the operations against an increasing number of ignored routes.</p>
+ * <p>{@link #lookupTrie()} uses the {@link IgnoredRoutes} compiled by the reader, {@link #scanList()} the previous
+ * scan of the whole list with {@link ReaderUtils#isIgnored(String, java.util.Collection)}. Half of the paths are
+ * ignored, by a route spread over the list, the other half matches no route and scans the whole list.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IgnoredRoutesBenchmark {
+    private static final int PATHS = 64;
+
+    @Param({"10", "1000", "10000"})
+    public int routes;
+
+    private List<String> ignoredRoutes;
+    private IgnoredRoutes compiled;
+    private String[] paths;
+
+    @Setup
+    public void setUp() {
+        ignoredRoutes = new ArrayList<>();
+        for (int r = 0; r < routes; r++) {
+            ignoredRoutes.add("/api/v1/service" + r + "/internal");
+        }
+        compiled = IgnoredRoutes.compile(ignoredRoutes);
+        paths = new String[PATHS];
+        for (int p = 0; p < PATHS; p++) {
+            int service = (p * routes / PATHS) % routes;
+            paths[p] = (p % 2 == 0)
+                    ? "/api/v1/service" + service + "/internal/status"
+                    : "/api/v1/service" + service + "/resources/{id}";
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public int lookupTrie() {
+        int ignored = 0;
+        for (String path : paths) {
+            if (compiled.isIgnored(path)) {
+                ignored++;
+            }
+        }
+        return ignored;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public int scanList() {
+        int ignored = 0;
+        for (String path : paths) {
+            if (ReaderUtils.isIgnored(path, ignoredRoutes)) {
+                ignored++;
+            }
+        }
+        return ignored;
+    }
+}
@@ -0,0 +1,78 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class IgnoredRoutesTest {
+    private static final ImmutableSet<String> ROUTES = ImmutableSet.of(
+            "/my/first/route",
+            "/my/second",
+            "/trailing/",
+            "/api/*/internal");
+
+    @ParameterizedTest
+    @CsvSource({
+            "/my",
+            "/my/first/test",
+            "/my/first/route",
+            "/my/first/route/sub",
+            "/my/first/routes",
+            "/my/second/route",
+            "/my/secondary",
+            "/trailing",
+            "/trailing/",
+            "/trailing/sub",
+            "/trailing//sub",
+            "/api/v1/internal",
+            "/api/*/internal/sub",
+            "my/second",
+    })
+    void should_match_as_linear_scan(String path) {
+        IgnoredRoutes tested = IgnoredRoutes.compile(ROUTES);
+
+        Assertions.assertThat(tested.isIgnored(path)).isEqualTo(ReaderUtils.isIgnored(path, ROUTES));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/internal, true",
+            "/api/v2/internal/health, true",
+            "/api/v1/public, false",
+            "/api/internal, false",
+            "/my/second/route, true",
+    })
+    void should_match_wildcard_segments(String path, boolean expectedIgnore) {
+        IgnoredRoutes tested = IgnoredRoutes.compile(ROUTES, true);
+
+        Assertions.assertThat(tested.isIgnored(path)).isEqualTo(expectedIgnore);
+    }
+
+    @Test
+    void should_ignore_nothing_without_routes() {
+        IgnoredRoutes tested = IgnoredRoutes.compile(ImmutableList.of());
+
+        Assertions.assertThat(tested).isSameAs(IgnoredRoutes.NONE);
+        Assertions.assertThat(tested.isIgnored("/my")).isFalse();
+    }
+
+    @Test
+    void should_match_among_many_routes() {
+        List<String> routes = IntStream.range(0, 10_000)
+                .mapToObj(i -> "/partner/" + i + "/private")
+                .collect(Collectors.toList());
+
+        IgnoredRoutes tested = IgnoredRoutes.compile(routes);
+
+        Assertions.assertThat(tested.isIgnored("/partner/9999/private/users")).isTrue();
+        Assertions.assertThat(tested.isIgnored("/partner/10000/private/users")).isFalse();
+        Assertions.assertThat(tested.isIgnored("/partner/42/public")).isFalse();
+    }
+}
@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.type.TypeBase;
 import com.fasterxml.jackson.databind.type.TypeBindings;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.converter.AnnotatedType;
+import org.apache.commons.lang3.reflect.TypeUtils;
 import org.assertj.core.util.Arrays;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -16,6 +19,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -46,6 +50,36 @@ class ModelConversionUtilsTest {
         assertThat(ModelConversionUtils.getResolutionStrategy(inputType)).isEqualTo(expectedResult);
     }
 
+    private static Stream<Arguments> params_should_get_resolution_strategy_from_generic_type() {
+        TypeFactory typeFactory = TypeFactory.defaultInstance();
+        return Stream.of(
+                Arguments.of(typeFactory.constructParametricType(Mono.class, String.class), ResolutionStrategy.WRAP_GENERIC),
+                Arguments.of(typeFactory.constructParametricType(Flux.class,
+                        typeFactory.constructParametricType(Mono.class, Instant.class)), ResolutionStrategy.WRAP_GENERIC_ARRAY),
+                Arguments.of(typeFactory.constructArrayType(Instant.class), ResolutionStrategy.DATE_TIME),
+                Arguments.of(typeFactory.constructCollectionType(List.class, Instant.class), ResolutionStrategy.DEFAULT),
+                Arguments.of(Instant[].class, ResolutionStrategy.DATE_TIME),
+                Arguments.of(TypeUtils.parameterize(Mono.class, String.class), ResolutionStrategy.WRAP_GENERIC),
+                Arguments.of(TypeUtils.genericArrayType(TypeUtils.parameterize(Flux.class, String.class)),
+                        ResolutionStrategy.WRAP_GENERIC_ARRAY)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("params_should_get_resolution_strategy_from_generic_type")
+    void should_get_resolution_strategy_from_generic_type(Type inputType, ResolutionStrategy expectedResult) {
+        assertThat(ModelConversionUtils.getResolutionStrategy(new AnnotatedType(inputType))).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void should_get_resolution_strategy_from_type_name() {
+        final Type inputType = mock(Type.class);
+        when(inputType.getTypeName()).thenReturn("[simple type : reactor.core.publisher.Flux]");
+
+        assertThat(ModelConversionUtils.getResolutionStrategy(new AnnotatedType(inputType)))
+                .isEqualTo(ResolutionStrategy.WRAP_GENERIC_ARRAY);
+    }
+
     private static Stream<Arguments> params_should_get_class_name() {
         return Stream.of(
                 Arguments.of("fr.irun.cms.api.model.Page", "Page"),
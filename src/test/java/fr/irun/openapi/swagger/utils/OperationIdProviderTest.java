@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.Map;
+
 class OperationIdProviderTest {
 
     private OperationIdProvider tested;
@@ -41,4 +43,19 @@ class OperationIdProviderTest {
         tested = new OperationIdProvider();
         Assertions.assertThat(tested.provideOperationId("login")).isEqualTo("login");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_replay_provided_operationids() {
+        OperationIdProvider fragment = new OperationIdProvider();
+        fragment.provideOperationId("login");
+        fragment.provideOperationId("login");
+        fragment.provideOperationId("obiwan");
+
+        Map<String, String> actual = fragment.replay(tested);
+
+        Assertions.assertThat(actual).containsExactly(
+                Assertions.entry("login", "login_2"),
+                Assertions.entry("login_1", "login_3"),
+                Assertions.entry("obiwan", "obiwan"));
+    }
+}
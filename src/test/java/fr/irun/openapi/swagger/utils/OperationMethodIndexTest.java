@@ -0,0 +1,60 @@
+package fr.irun.openapi.swagger.utils;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Method;
+
+class OperationMethodIndexTest {
+
+    @Test
+    void should_resolve_inherited_http_method() throws NoSuchMethodException {
+        Method method = UserController.class.getMethod("read", String.class);
+
+        OperationMethodIndex.Resolution actual = OperationMethodIndex.resolve(method);
+
+        Assertions.assertThat(actual.httpMethod).isEqualTo("get");
+        Assertions.assertThat(OperationMethodIndex.resolve(method)).isSameAs(actual);
+        Assertions.assertThat(ReaderUtils.extractOperationMethod(method, null)).isEqualTo("get");
+    }
+
+    @Test
+    void should_keep_deepest_method_without_http_method() throws NoSuchMethodException {
+        Method method = UserController.class.getMethod("delete", String.class);
+
+        OperationMethodIndex.Resolution actual = OperationMethodIndex.resolve(method);
+
+        Assertions.assertThat(actual.httpMethod).isNull();
+        Assertions.assertThat(actual.undeclaredMethod).isEqualTo(CrudController.class.getMethod("delete", Object.class));
+    }
+
+    @Test
+    void should_cache_overridden_method() throws NoSuchMethodException {
+        Method method = UserController.class.getMethod("read", String.class);
+
+        Assertions.assertThat(OperationMethodIndex.getOverriddenMethod(method))
+                .contains(CrudController.class.getMethod("read", Object.class));
+        Assertions.assertThat(OperationMethodIndex.getOverriddenMethod(CrudController.class.getMethod("read", Object.class)))
+                .isEmpty();
+    }
+
+    public abstract static class CrudController<I> {
+        @RequestMapping(method = RequestMethod.GET)
+        public abstract String read(I id);
+
+        public abstract void delete(I id);
+    }
+
+    public static class UserController extends CrudController<String> {
+        @Override
+        public String read(String id) {
+            return id;
+        }
+
+        @Override
+        public void delete(String id) {
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package fr.irun.openapi.swagger.utils;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PathTemplateTest {
+
+    @Test
+    void should_compile_path_and_regex() {
+        PathTemplate actual = PathTemplate.of("", "/users/", "{id:[0-9]+}/roles");
+
+        Assertions.assertThat(actual.getRawPath()).isEqualTo("/users/{id:[0-9]+}/roles");
+        Assertions.assertThat(actual.getPath()).isEqualTo("/users/{id}/roles");
+        Assertions.assertThat(actual.getRegexMap()).containsExactly(Assertions.entry("id", "[0-9]+"));
+        Assertions.assertThat(actual.isSameAsParent()).isFalse();
+    }
+
+    @Test
+    void should_cache_templates() {
+        PathTemplate actual = PathTemplate.of("/api", "/users", "/{id}");
+
+        Assertions.assertThat(PathTemplate.of("/api", "/users", "/{id}")).isSameAs(actual);
+        Assertions.assertThat(PathTemplate.of(null, null, "/")).isSameAs(PathTemplate.of("", "", "/"));
+    }
+
+    @Test
+    void should_detect_parent_path() {
+        Assertions.assertThat(PathTemplate.of("/api", "/", null).isSameAsParent()).isTrue();
+        Assertions.assertThat(PathTemplate.of("/api", "/users", null).isSameAsParent()).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/, /, true",
+            "//test//, /test, true",
+            "/test/sub, /test//sub/, true",
+            "/test/sub, /testsub, false",
+            "/test, /test/sub, false",
+            "'', /, true",
+    })
+    void should_compare_paths(String left, String right, boolean expected) {
+        Assertions.assertThat(PathTemplate.isSamePath(left, right)).isEqualTo(expected);
+        Assertions.assertThat(PathTemplate.isSamePath(right, left)).isEqualTo(expected);
+    }
+}
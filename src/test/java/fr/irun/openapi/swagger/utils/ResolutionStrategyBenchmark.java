@@ -0,0 +1,100 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import fr.irun.openapi.swagger.RocketModelConverter;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Resolve nested generic types: reflection types, Jackson types and arrays.</p>
+ * <p>{@link #strategyFromTypeName()} is the dispatch on the type name done on each resolve before the raw class
+ * dispatch of {@link #strategyFromRawClass()}. {@link #resolve()} is the whole resolution of the schemas by a
+ * {@link ModelConverters} holding the {@link RocketModelConverter}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResolutionStrategyBenchmark {
+    private static final int TYPES = 4;
+
+    private AnnotatedType[] types;
+    private ModelConverters modelConverters;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        types = new AnnotatedType[]{
+                new AnnotatedType(Signatures.class.getMethod("entities").getGenericReturnType()),
+                new AnnotatedType(Signatures.class.getMethod("indexed").getGenericReturnType()),
+                new AnnotatedType(Json.mapper().getTypeFactory().constructType(
+                        new TypeReference<List<Map<String, Set<Dto>>>>() {
+                        })),
+                new AnnotatedType(Dto[][].class),
+        };
+        if (types.length != TYPES) {
+            throw new IllegalStateException("Expected " + TYPES + " types");
+        }
+        modelConverters = new ModelConverters();
+        modelConverters.addConverter(new RocketModelConverter());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void strategyFromTypeName(Blackhole blackhole) {
+        for (AnnotatedType type : types) {
+            blackhole.consume(ResolutionStrategy.fromClassName(ModelConversionUtils.getClassName(type.getType())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void strategyFromRawClass(Blackhole blackhole) {
+        for (AnnotatedType type : types) {
+            blackhole.consume(ModelConversionUtils.getResolutionStrategy(type));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void resolve(Blackhole blackhole) {
+        for (AnnotatedType type : types) {
+            blackhole.consume(modelConverters.resolveAsResolvedSchema(new AnnotatedType(type.getType()).resolveAsRef(true)));
+        }
+    }
+
+    public interface Signatures {
+        Mono<ResponseEntity<List<Map<String, Dto>>>> entities();
+
+        Flux<Map<String, List<Dto>>> indexed();
+    }
+
+    public static final class Dto {
+        public String name;
+        public Instant updated;
+        public List<String> labels;
+    }
+}
@@ -38,4 +38,21 @@ class ResolutionStrategyTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expectedType);
     }
-}
\ No newline at end of file
+
+    private static Stream<Arguments> fromClassParams() {
+        return Stream.of(
+                Arguments.of(Mono.class, ResolutionStrategy.WRAP_GENERIC),
+                Arguments.of(Flux.class, ResolutionStrategy.WRAP_GENERIC_ARRAY),
+                Arguments.of(Instant.class, ResolutionStrategy.DATE_TIME),
+                Arguments.of(JsonNode.class, ResolutionStrategy.MAP),
+                Arguments.of(String.class, ResolutionStrategy.DEFAULT),
+                Arguments.of(int.class, ResolutionStrategy.DEFAULT)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromClassParams")
+    void fromClass(Class<?> rawClass, ResolutionStrategy expectedType) {
+        assertThat(ResolutionStrategy.fromClass(rawClass)).isEqualTo(expectedType);
+    }
+}
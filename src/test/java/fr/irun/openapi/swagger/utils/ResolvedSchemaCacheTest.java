@@ -0,0 +1,108 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ResolvedSchemaCacheTest {
+
+    @Test
+    void should_resolve_schema_once() {
+        ResolvedSchemaCache tested = new ResolvedSchemaCache();
+
+        ResolvedSchema first = tested.resolve(Dto.class, null, true);
+        ResolvedSchema second = tested.resolve(Dto.class, null, true);
+
+        Assertions.assertThat(first.schema).isNotNull();
+        Assertions.assertThat(first.referencedSchemas).containsKey("Dto");
+        Assertions.assertThat(Json.pretty(second)).isEqualTo(Json.pretty(first));
+        Assertions.assertThat(tested.getMissCount()).isEqualTo(1);
+        Assertions.assertThat(tested.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_share_resolved_schemas() {
+        ResolvedSchemaCache tested = new ResolvedSchemaCache();
+        ResolvedSchema first = tested.resolve(Dto.class, null, true);
+        first.referencedSchemas.get("Dto").setDescription("modified");
+
+        ResolvedSchema second = tested.resolve(Dto.class, null, true);
+        second.referencedSchemas.get("Dto").setDescription("modified again");
+        second.referencedSchemas.put("Other", new Schema<>());
+        ResolvedSchema actual = tested.resolve(Dto.class, null, true);
+
+        Assertions.assertThat(actual.referencedSchemas).containsOnlyKeys("Dto");
+        Assertions.assertThat(actual.referencedSchemas.get("Dto").getDescription()).isNull();
+        Assertions.assertThat(actual.referencedSchemas.get("Dto").getProperties()).containsOnlyKeys("name");
+    }
+
+    @Test
+    void should_resolve_again_when_wrapper_types_change() {
+        ResolvedSchemaCache tested = new ResolvedSchemaCache();
+        tested.resolve(Dto.class, null, true);
+        try {
+            WrapperTypeRegistry.register("com.example.Wrapper", WrapperTypeRegistry.Unwrap.SINGLE);
+            tested.resolve(Dto.class, null, true);
+        } finally {
+            WrapperTypeRegistry.unregister("com.example.Wrapper");
+        }
+
+        Assertions.assertThat(tested.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_resolve_again_when_converters_change() {
+        ResolvedSchemaCache tested = new ResolvedSchemaCache();
+        ModelConverter converter = (type, context, chain) -> chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        tested.resolve(Dto.class, null, true);
+        try {
+            ModelConverters.getInstance().addConverter(converter);
+            tested.resolve(Dto.class, null, true);
+        } finally {
+            ModelConverters.getInstance().removeConverter(converter);
+        }
+        tested.resolve(Dto.class, null, true);
+
+        Assertions.assertThat(tested.getMissCount()).isEqualTo(2);
+        Assertions.assertThat(tested.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_distinguish_json_view_and_ref() throws NoSuchMethodException {
+        JsonView jsonView = ResolvedSchemaCacheTest.class.getDeclaredMethod("withView").getAnnotation(JsonView.class);
+        ResolvedSchemaCache tested = new ResolvedSchemaCache();
+
+        ResolvedSchema actual = tested.resolve(Dto.class, null, true);
+
+        Assertions.assertThat(tested.resolve(Dto.class, jsonView, true)).isNotSameAs(actual);
+        Assertions.assertThat(tested.resolve(Dto.class, null, false)).isNotSameAs(actual);
+        Assertions.assertThat(tested.getMissCount()).isEqualTo(3);
+        Assertions.assertThat(tested.getHitCount()).isZero();
+    }
+
+    @Test
+    void should_bound_cached_schemas() {
+        ResolvedSchemaCache tested = new ResolvedSchemaCache(1);
+
+        tested.resolve(Dto.class, null, true);
+        tested.resolve(String.class, null, true);
+        tested.resolve(Dto.class, null, true);
+
+        Assertions.assertThat(tested.getMissCount()).isEqualTo(3);
+    }
+
+    @JsonView(Dto.class)
+    @SuppressWarnings("unused")
+    private static void withView() {
+    }
+
+    @SuppressWarnings("unused")
+    public static final class Dto {
+        public String name;
+    }
+}
@@ -5,12 +5,15 @@ import com.fasterxml.jackson.databind.type.SimpleType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 class SpringTypeResolverTest {
     @Test
@@ -51,4 +54,18 @@ class SpringTypeResolverTest {
             Assertions.assertThat(actual).isEqualTo(typeFactory.constructType(String.class));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_resolve_registered_wrapper_types() {
+        TypeFactory typeFactory = TypeFactory.defaultInstance();
+        Assertions.assertThat(SpringTypeResolver.resolve(new TypeReference<CompletableFuture<String>>() {
+        }.getType())).isEqualTo(String.class);
+        Assertions.assertThat(SpringTypeResolver.resolve(new TypeReference<Optional<String>>() {
+        }.getType())).isEqualTo(String.class);
+        Assertions.assertThat(SpringTypeResolver.resolve(new TypeReference<Publisher<String>>() {
+        }.getType())).isEqualTo(typeFactory.constructCollectionType(List.class, String.class));
+        Assertions.assertThat(SpringTypeResolver.resolve(new TypeReference<List<String>>() {
+        }.getType())).isEqualTo(new TypeReference<List<String>>() {
+        }.getType());
+    }
+}
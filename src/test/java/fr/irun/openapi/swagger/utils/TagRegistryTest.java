@@ -0,0 +1,65 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableList;
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+class TagRegistryTest {
+
+    @ParameterizedTest
+    @EnumSource(TagRegistry.MergePolicy.class)
+    void should_keep_tags_sorted_and_unique(TagRegistry.MergePolicy policy) {
+        TagRegistry tested = new TagRegistry(policy);
+
+        tested.addAll(ImmutableList.of(new Tag().name("users"), new Tag().name("admin")));
+        tested.addAll(ImmutableList.of(new Tag().name("users"), new Tag().name("login")));
+        tested.add(null);
+
+        Assertions.assertThat(tested.getTags())
+                .extracting(Tag::getName)
+                .containsExactly("admin", "login", "users");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "KEEP_ALL, first, second",
+            "KEEP_FIRST, first,",
+            "KEEP_LAST, second,",
+            "MERGE_MISSING, first,",
+    })
+    void should_apply_merge_policy(TagRegistry.MergePolicy policy, String expectedFirst, String expectedSecond) {
+        TagRegistry tested = new TagRegistry(policy);
+
+        tested.add(new Tag().name("users").description("first"));
+        tested.add(new Tag().name("users").description("second"));
+
+        List<Tag> actual = tested.getTags();
+        Assertions.assertThat(actual).extracting(Tag::getName).containsOnly("users");
+        Assertions.assertThat(actual.get(0).getDescription()).isEqualTo(expectedFirst);
+        if (expectedSecond == null) {
+            Assertions.assertThat(actual).hasSize(1);
+        } else {
+            Assertions.assertThat(actual).hasSize(2);
+            Assertions.assertThat(actual.get(1).getDescription()).isEqualTo(expectedSecond);
+        }
+    }
+
+    @Test
+    void should_merge_missing_elements() {
+        ExternalDocumentation docs = new ExternalDocumentation().url("http://localhost/docs");
+        TagRegistry tested = new TagRegistry(TagRegistry.MergePolicy.MERGE_MISSING);
+
+        tested.add(new Tag().name("users"));
+        tested.add(new Tag().name("users").description("the users").externalDocs(docs));
+
+        Assertions.assertThat(tested.getTags()).containsExactly(
+                new Tag().name("users").description("the users").externalDocs(docs));
+    }
+}
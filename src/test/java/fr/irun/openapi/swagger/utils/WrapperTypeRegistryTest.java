@@ -0,0 +1,68 @@
+package fr.irun.openapi.swagger.utils;
+
+import com.google.common.collect.ImmutableMap;
+import io.swagger.v3.core.converter.AnnotatedType;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+class WrapperTypeRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        WrapperTypeRegistry.reset();
+    }
+
+    @Test
+    void should_register_default_wrapper_types() {
+        Assertions.assertThat(WrapperTypeRegistry.get(Mono.class)).contains(WrapperTypeRegistry.Unwrap.SINGLE);
+        Assertions.assertThat(WrapperTypeRegistry.get(Flux.class)).contains(WrapperTypeRegistry.Unwrap.ARRAY);
+        Assertions.assertThat(WrapperTypeRegistry.get("kotlinx.coroutines.flow.Flow")).contains(WrapperTypeRegistry.Unwrap.ARRAY);
+        Assertions.assertThat(WrapperTypeRegistry.get(String.class)).isEmpty();
+        Assertions.assertThat(WrapperTypeRegistry.get((String) null)).isEmpty();
+    }
+
+    @Test
+    void should_load_service_provided_wrapper_types() {
+        Assertions.assertThat(WrapperTypeRegistry.get(Page.class)).contains(WrapperTypeRegistry.Unwrap.ARRAY);
+    }
+
+    @Test
+    void should_register_wrapper_types_programmatically() {
+        WrapperTypeRegistry.register(Holder.class, WrapperTypeRegistry.Unwrap.SINGLE);
+
+        Assertions.assertThat(ResolutionStrategy.fromClass(Holder.class)).isEqualTo(ResolutionStrategy.WRAP_GENERIC);
+        Assertions.assertThat(SpringTypeResolver.resolve(TypeUtils.parameterize(Holder.class, String.class)))
+                .isEqualTo(String.class);
+
+        WrapperTypeRegistry.unregister(Holder.class.getName());
+
+        Assertions.assertThat(ResolutionStrategy.fromClass(Holder.class)).isEqualTo(ResolutionStrategy.DEFAULT);
+        Assertions.assertThat(ModelConversionUtils.getResolutionStrategy(
+                new AnnotatedType(TypeUtils.parameterize(Holder.class, String.class))))
+                .isEqualTo(ResolutionStrategy.DEFAULT);
+    }
+
+    @SuppressWarnings("unused")
+    static final class Holder<T> {
+        T value;
+    }
+
+    @SuppressWarnings("unused")
+    static final class Page<T> {
+        List<T> content;
+    }
+
+    public static final class TestWrapperTypeProvider implements WrapperTypeProvider {
+        @Override
+        public Map<String, WrapperTypeRegistry.Unwrap> getWrapperTypes() {
+            return ImmutableMap.of(Page.class.getName(), WrapperTypeRegistry.Unwrap.ARRAY);
+        }
+    }
+}
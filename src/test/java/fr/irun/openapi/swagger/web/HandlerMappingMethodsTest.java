@@ -0,0 +1,108 @@
+package fr.irun.openapi.swagger.web;
+
+import com.google.common.collect.ImmutableSet;
+import fr.irun.openapi.swagger.readers.MappedMethod;
+import fr.irun.openapi.swagger.readers.SpringOpenApiReader;
+import fr.irun.openapi.swagger.samples.AuthenticationController;
+import fr.irun.openapi.swagger.samples.RestWithConsumesController;
+import fr.irun.openapi.swagger.samples.SimpleRestController;
+import fr.irun.openapi.swagger.samples.SimpleRestWithParameters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+import java.util.Set;
+
+class HandlerMappingMethodsTest {
+    private static final Set<Class<?>> CONTROLLERS = ImmutableSet.of(
+            AuthenticationController.class,
+            RestWithConsumesController.class,
+            SimpleRestController.class,
+            SimpleRestWithParameters.class);
+
+    private GenericApplicationContext context;
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeEach
+    void setUp() {
+        context = new GenericApplicationContext();
+        CONTROLLERS.forEach(context::registerBean);
+        context.refresh();
+        handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void should_read_handler_methods_as_classes() {
+        OpenAPI expected = new SpringOpenApiReader(new OpenAPI()).read(CONTROLLERS);
+
+        OpenAPI actual = HandlerMappingMethods.read(new SpringOpenApiReader(new OpenAPI()), handlerMapping);
+
+        Assertions.assertThat(Json.mapper().valueToTree(actual).toString())
+                .isEqualTo(Json.mapper().valueToTree(expected).toString());
+    }
+
+    @Test
+    void should_read_programmatic_routes() throws NoSuchMethodException {
+        handlerMapping.registerMapping(
+                RequestMappingInfo.paths("/programmatic/{id}").methods(RequestMethod.GET).produces("text/plain").build(),
+                new ProgrammaticHandler(), ProgrammaticHandler.class.getMethod("handle", String.class));
+
+        OpenAPI actual = HandlerMappingMethods.read(new SpringOpenApiReader(new OpenAPI()), handlerMapping);
+
+        PathItem pathItem = actual.getPaths().get("/programmatic/{id}");
+        Assertions.assertThat(pathItem).isNotNull();
+        Assertions.assertThat(pathItem.getPost()).isNull();
+        Assertions.assertThat(pathItem.getGet().getOperationId()).isEqualTo("handle");
+        Assertions.assertThat(pathItem.getGet().getResponses().get("200").getContent()).containsOnlyKeys("text/plain");
+    }
+
+    @Test
+    void should_split_mappings_by_pattern_and_method() throws NoSuchMethodException {
+        handlerMapping.registerMapping(
+                RequestMappingInfo.paths("/first", "/second").methods(RequestMethod.GET, RequestMethod.HEAD)
+                        .consumes("application/xml").build(),
+                new ProgrammaticHandler(), ProgrammaticHandler.class.getMethod("handle", String.class));
+
+        List<MappedMethod> actual = HandlerMappingMethods.of(handlerMapping);
+
+        Assertions.assertThat(actual)
+                .filteredOn(m -> m.getHandlerType() == ProgrammaticHandler.class)
+                .extracting(MappedMethod::getPath, MappedMethod::getRequestMethod)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple("/first", RequestMethod.GET),
+                        Assertions.tuple("/first", RequestMethod.HEAD),
+                        Assertions.tuple("/second", RequestMethod.GET),
+                        Assertions.tuple("/second", RequestMethod.HEAD));
+        Assertions.assertThat(actual)
+                .filteredOn(m -> m.getHandlerType() == ProgrammaticHandler.class)
+                .allSatisfy(m -> {
+                    Assertions.assertThat(m.getConsumes()).containsExactly("application/xml");
+                    Assertions.assertThat(m.getRequestMapping().consumes()).containsExactly("application/xml");
+                    Assertions.assertThat(m.getRequestMapping().path()).containsExactly(m.getPath());
+                });
+    }
+
+    public static final class ProgrammaticHandler {
+        @Operation
+        public String handle(String id) {
+            return id;
+        }
+    }
+}
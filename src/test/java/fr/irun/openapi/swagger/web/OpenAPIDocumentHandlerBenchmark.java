@@ -0,0 +1,109 @@
+package fr.irun.openapi.swagger.web;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Request a definition of 500 paths from a {@link WebTestClient} bound to the routes, in requests per second.</p>
+ * <p>{@link #json()}, {@link #gzip()} and {@link #notModified()} go through the {@link OpenAPIDocumentHandler},
+ * {@link #serializeEachRequest()} serializes the definition for each request, as a handler without the prepared
+ * bytes would. The requests do not open sockets, the network and the HTTP server are not part of the measure.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OpenAPIDocumentHandlerBenchmark {
+    private static final int PATHS = 500;
+    private static final String JSON_PATH = "/openapi.json";
+    private static final String YAML_PATH = "/openapi.yaml";
+    private static final String SERIALIZED_PATH = "/serialized.json";
+
+    private WebTestClient client;
+    private String eTag;
+
+    @Setup
+    public void setUp() {
+        OpenAPI openAPI = definition();
+        OpenAPIDocumentHandler handler = OpenAPIDocumentHandler.of(openAPI);
+        client = WebTestClient.bindToRouterFunction(handler.routes(JSON_PATH, YAML_PATH)
+                        .andRoute(RequestPredicates.GET(SERIALIZED_PATH), request -> ServerResponse.ok()
+                                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                                .body(Mono.fromCallable(() -> Json.mapper().writeValueAsBytes(openAPI)), byte[].class)))
+                .build();
+        eTag = handler.getJson().getETag();
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return client.get().uri(JSON_PATH).exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] gzip() {
+        return client.get().uri(JSON_PATH).header(HttpHeaders.ACCEPT_ENCODING, "gzip").exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] notModified() {
+        return client.get().uri(JSON_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag).exchange()
+                .expectStatus().isNotModified()
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] serializeEachRequest() {
+        return client.get().uri(SERIALIZED_PATH).exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    private static OpenAPI definition() {
+        Paths paths = new Paths();
+        for (int p = 0; p < PATHS; p++) {
+            Schema<?> schema = new Schema<>().$ref("#/components/schemas/Resource" + p);
+            paths.addPathItem("/resources" + p + "/{id}", new PathItem().get(new Operation()
+                    .operationId("getResource" + p)
+                    .summary("Get the resource " + p)
+                    .addParametersItem(new PathParameter().name("id").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                            .description("The resource " + p)
+                            .content(new Content().addMediaType("application/json", new MediaType().schema(schema)))))));
+        }
+        return new OpenAPI().info(new Info().title("Benchmark").version("1.0")).paths(paths);
+    }
+}
@@ -0,0 +1,119 @@
+package fr.irun.openapi.swagger.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+class OpenAPIDocumentHandlerTest {
+    private static final String JSON_PATH = "/openapi.json";
+    private static final String YAML_PATH = "/openapi.yaml";
+
+    private OpenAPI openAPI;
+    private OpenAPIDocumentHandler tested;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        openAPI = new OpenAPI()
+                .info(new Info().title("Rocket").version("1.0"))
+                .paths(new Paths().addPathItem("/users", new PathItem().get(new Operation().operationId("getUsers"))));
+        tested = OpenAPIDocumentHandler.of(openAPI);
+        client = WebTestClient.bindToRouterFunction(tested.routes(JSON_PATH, YAML_PATH)).build();
+    }
+
+    @Test
+    void should_serve_json_with_etag() throws IOException {
+        byte[] body = client.get().uri(JSON_PATH).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, tested.getJson().getETag())
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody().returnResult().getResponseBody();
+
+        Assertions.assertThat(body).isEqualTo(tested.getJson().getBytes());
+        Assertions.assertThat(Json.mapper().readTree(body)).isEqualTo(Json.mapper().valueToTree(openAPI));
+    }
+
+    @Test
+    void should_serve_yaml() throws IOException {
+        byte[] body = client.get().uri(YAML_PATH).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(OpenAPIDocumentHandler.APPLICATION_YAML)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, tested.getYaml().getETag())
+                .expectBody().returnResult().getResponseBody();
+
+        JsonNode expected = Yaml.mapper().readTree(Yaml.pretty(openAPI));
+        Assertions.assertThat(Yaml.mapper().readTree(body)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_serve_gzip_when_accepted() throws IOException {
+        byte[] body = client.get().uri(JSON_PATH)
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectHeader().valueEquals(HttpHeaders.ETAG, tested.getJson().getGzipETag())
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .expectBody().returnResult().getResponseBody();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            Assertions.assertThat(in.readAllBytes()).isEqualTo(tested.getJson().getBytes());
+        }
+    }
+
+    @Test
+    void should_not_serve_gzip_with_zero_quality() {
+        client.get().uri(JSON_PATH)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    @Test
+    void should_answer_not_modified_when_etag_matches() {
+        String eTag = tested.getJson().getETag();
+
+        byte[] body = client.get().uri(JSON_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().returnResult().getResponseBody();
+
+        Assertions.assertThat(body).isNull();
+    }
+
+    @Test
+    void should_serve_when_etag_differs() {
+        client.get().uri(JSON_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, tested.getJson().getGzipETag())
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void should_change_etag_with_content() {
+        OpenAPIDocumentHandler other = OpenAPIDocumentHandler.of(openAPI.info(new Info().title("Other").version("1.0")));
+
+        Assertions.assertThat(other.getJson().getETag()).isNotEqualTo(tested.getJson().getETag());
+        Assertions.assertThat(OpenAPIDocumentHandler.of(openAPI).getJson().getETag())
+                .isEqualTo(other.getJson().getETag());
+    }
+}